@@ -18,17 +18,11 @@ package org.libj.test;
 
 import static org.junit.Assert.*;
 
-import java.util.HashMap;
-import java.util.regex.Pattern;
-
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
-import javax.xml.transform.Source;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 import org.junit.ComparisonFailure;
 import org.openjax.xml.dom.DOMStyle;
@@ -44,6 +38,8 @@ import org.xmlunit.diff.ComparisonListener;
 import org.xmlunit.diff.ComparisonResult;
 import org.xmlunit.diff.DOMDifferenceEngine;
 import org.xmlunit.diff.DifferenceEngine;
+import org.xmlunit.diff.NodeFilters;
+import org.xmlunit.util.Predicate;
 
 /**
  * A builder implementation of the test assertion pattern, designed to facilitate testing of XML values. This implementation is
@@ -51,8 +47,44 @@ import org.xmlunit.diff.DifferenceEngine;
  */
 public final class AssertXml {
   private static final String diffPackageName = Comparison.class.getPackage().getName();
-  private static final Pattern ATTR_NAME_PATTERN = Pattern.compile("/([^@])");
-  private static final Pattern ATTR_MATCH_PATTERN = Pattern.compile("^.*/@[:a-z]+$");
+
+  // Excludes DocumentType nodes (as per NodeFilters.Default), as well as whitespace-only text nodes, which are insignificant to the
+  // comparison, because the control and test elements are compared as if indented with DOMStyle.INDENT.
+  private static final Predicate<Node> nodeFilter = new Predicate<Node>() {
+    @Override
+    public boolean test(final Node node) {
+      return NodeFilters.Default.test(node) && !StructuralHash.isWhitespace(node);
+    }
+  };
+
+  /**
+   * Returns whether a difference at the provided {@code xPath} of the control document is to be ignored, which is the case for
+   * differences of {@code text()} nodes, and of attributes whose names consist only of {@code [:a-z]}.
+   * <p>
+   * This method is invoked for each difference reported by XMLUnit, and therefore scans the {@code xPath} without allocation, rather
+   * than with a {@link java.util.regex.Matcher Matcher}.
+   *
+   * @param xPath The XPath of the difference in the control document.
+   * @return Whether a difference at the provided {@code xPath} of the control document is to be ignored.
+   */
+  static boolean isIgnorable(final String xPath) {
+    return xPath.contains("text()") || isAttribute(xPath);
+  }
+
+  // Equivalent to xPath.matches(".*/@[:a-z]+")
+  private static boolean isAttribute(final String xPath) {
+    final int len = xPath.length();
+    for (int i = len - 1; i > 0; --i) { // [N]
+      final char ch = xPath.charAt(i);
+      if (ch == '@')
+        return i < len - 1 && xPath.charAt(i - 1) == '/';
+
+      if (ch != ':' && (ch < 'a' || 'z' < ch))
+        return false;
+    }
+
+    return false;
+  }
 
   /**
    * Creates a new {@link AssertXml} comparison instance between the provided {@code control} and {@code test} elements.
@@ -62,39 +94,78 @@ public final class AssertXml {
    * @return A new {@link AssertXml} comparison instance.
    */
   public static AssertXml compare(final Element control, final Element test) {
-    final HashMap<String,String> prefixToNamespaceURI = new HashMap<>();
-    prefixToNamespaceURI.put("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
-    final NamedNodeMap attributes = control.getAttributes();
-    for (int i = 0, i$ = attributes.getLength(); i < i$; ++i) { // [RA]
-      final Attr attribute = (Attr)attributes.item(i);
-      if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()) && "xmlns".equals(attribute.getPrefix()))
-        prefixToNamespaceURI.put(attribute.getLocalName(), attribute.getNodeValue());
+    return new AssertXml(control, test);
+  }
+
+  /**
+   * Returns a {@link ScopedNamespaceContext} that declares the {@code xmlns} prefixes of the provided {@code root} element and its
+   * descendants, in document order, in the scope of the provided {@code context}. A prefix that is already bound is not rebound, so
+   * that the outermost declaration of a prefix takes precedence over declarations deeper in the tree.
+   *
+   * @param context The {@link ScopedNamespaceContext} in the scope of which the declarations are to be pushed.
+   * @param root The root element.
+   * @return A {@link ScopedNamespaceContext} that declares the {@code xmlns} prefixes of the provided {@code root} element and its
+   *         descendants.
+   */
+  private static ScopedNamespaceContext declare(ScopedNamespaceContext context, final Element root) {
+    Node node = root;
+    do {
+      if (node.getNodeType() == Node.ELEMENT_NODE) {
+        final NamedNodeMap attributes = node.getAttributes();
+        for (int i = 0, i$ = attributes.getLength(); i < i$; ++i) { // [RA]
+          final Attr attribute = (Attr)attributes.item(i);
+          if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()) && "xmlns".equals(attribute.getPrefix()) && context.getNamespaceURI(attribute.getLocalName()).isEmpty())
+            context = context.push(attribute.getLocalName(), attribute.getNodeValue());
+        }
+      }
+
+      // Advance to the next node in document order, without descending into the ancestors of root
+      if (node.getFirstChild() != null) {
+        node = node.getFirstChild();
+      }
+      else {
+        while (node != root && node.getNextSibling() == null)
+          node = node.getParentNode();
+
+        node = node == root ? null : node.getNextSibling();
+      }
     }
+    while (node != null);
 
-    return new AssertXml(new SimpleNamespaceContext(prefixToNamespaceURI), control, test);
+    return context;
   }
 
-  private final NamespaceContext namespaceContext;
   private final Element control;
   private final Element test;
+  private NamespaceContext namespaceContext;
 
-  private AssertXml(final NamespaceContext namespaceContext, final Element control, final Element test) {
+  private AssertXml(final Element control, final Element test) {
     if (!control.getPrefix().equals(test.getPrefix()))
       throw new IllegalArgumentException("Prefixes of control and test elements must be the same: \"" + control.getPrefix() + "\" != \"" + test.getPrefix() + "\"");
 
-    this.namespaceContext = namespaceContext;
     this.control = control;
     this.test = test;
   }
 
-  private XPath newXPath() {
-    final XPath xPath = XPathFactory.newInstance().newXPath();
-    xPath.setNamespaceContext(namespaceContext);
-    return xPath;
+  /**
+   * Returns the {@link NamespaceContext} with which XPath expressions are evaluated, which declares the {@code xmlns} prefixes of
+   * the {@code control} element and its descendants, followed by those of the {@code test} element and its descendants that are not
+   * yet bound, and the {@code "xsi"} prefix if it is not yet bound. The context is resolved when first needed, because it is only
+   * used by the methods that modify the {@code control} or {@code test} elements.
+   *
+   * @return The {@link NamespaceContext} with which XPath expressions are evaluated.
+   */
+  private NamespaceContext getNamespaceContext() {
+    if (namespaceContext == null) {
+      final ScopedNamespaceContext context = declare(declare(ScopedNamespaceContext.EMPTY, control), test);
+      namespaceContext = !context.getNamespaceURI("xsi").isEmpty() ? context : context.push("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+    }
+
+    return namespaceContext;
   }
 
   private AssertXml addAttr(final Element element, final String xpath, final String name, final String value) throws XPathExpressionException {
-    final XPathExpression expression = newXPath().compile(xpath);
+    final XPathExpression expression = XPathCache.compile(xpath, getNamespaceContext());
     final NodeList nodes = (NodeList)expression.evaluate(element, XPathConstants.NODESET);
     for (int i = 0, i$ = nodes.getLength(); i < i$; ++i) { // [RA]
       final Node node = nodes.item(i);
@@ -138,7 +209,7 @@ public final class AssertXml {
 
   private AssertXml remove(final Element element, final String ... xpaths) throws XPathExpressionException {
     for (final String xpath : xpaths) { // [A]
-      final XPathExpression expression = newXPath().compile(xpath);
+      final XPathExpression expression = XPathCache.compile(xpath, getNamespaceContext());
       final NodeList nodes = (NodeList)expression.evaluate(element, XPathConstants.NODESET);
       for (int i = 0, i$ = nodes.getLength(); i < i$; ++i) { // [RA]
         final Node node = nodes.item(i);
@@ -178,7 +249,7 @@ public final class AssertXml {
   }
 
   private AssertXml replaceAttr(final Element element, final String xpath, final String name, final String value) throws XPathExpressionException {
-    final XPathExpression expression = newXPath().compile(xpath);
+    final XPathExpression expression = XPathCache.compile(xpath, getNamespaceContext());
     final NodeList nodes = (NodeList)expression.evaluate(element, XPathConstants.NODESET);
     for (int i = 0, i$ = nodes.getLength(); i < i$; ++i) { // [RA]
       final Node node = nodes.item(i);
@@ -300,14 +371,12 @@ public final class AssertXml {
    * @throws ComparisonFailure If the {@code control} and {@code test} elements in this {@link AssertXml} instance are not equal.
    */
   public void assertEqual(final String message, final boolean filterStacktrace) {
-    final String prefix = control.getPrefix();
-    final String controlXml = DOMs.domToString(control, DOMStyle.INDENT, DOMStyle.INDENT_ATTRS);
-    final String testXml = DOMs.domToString(test, DOMStyle.INDENT, DOMStyle.INDENT_ATTRS);
-
-    final Source controlSource = Input.fromString(controlXml).build();
-    final Source testSource = Input.fromString(testXml).build();
+    // Only identical trees skip the diff, since trees of equal structural hashes may still differ by a collision
+    if (control == test || control.isEqualNode(test))
+      return;
 
     final DifferenceEngine diffEngine = new DOMDifferenceEngine();
+    diffEngine.setNodeFilter(nodeFilter);
     diffEngine.addDifferenceListener(new ComparisonListener() {
       @Override
       public void comparisonPerformed(final Comparison comparison, final ComparisonResult result) {
@@ -315,10 +384,12 @@ public final class AssertXml {
         if (xPath == null)
           return;
 
-        final String controlXPath = ATTR_NAME_PATTERN.matcher(xPath).replaceAll("/" + prefix + ":$1");
-        if (ATTR_MATCH_PATTERN.matcher(controlXPath).matches() || controlXPath.contains("text()"))
+        if (isIgnorable(xPath))
           return;
 
+        // The indented string representations are only needed for the failure message
+        final String controlXml = DOMs.domToString(control, DOMStyle.INDENT, DOMStyle.INDENT_ATTRS);
+        final String testXml = DOMs.domToString(test, DOMStyle.INDENT, DOMStyle.INDENT_ATTRS);
         try {
           assertEquals(message, controlXml, testXml);
         }
@@ -343,6 +414,6 @@ public final class AssertXml {
       }
     });
 
-    diffEngine.compare(controlSource, testSource);
+    diffEngine.compare(Input.fromNode(control).build(), Input.fromNode(test).build());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * A batch of {@link AssertXml} comparisons between pairs of {@code control} and {@code test} documents, which are verified in
+ * parallel on an {@link ExecutorService}. Rather than stopping at the first failure, all failures are aggregated into a single
+ * {@link AssertionError}.
+ * <p>
+ * Each worker thread parses documents with its own {@link javax.xml.parsers.DocumentBuilder DocumentBuilder}, and evaluates XPath
+ * expressions with its own {@link javax.xml.xpath.XPath XPath} (see {@link XPathCache}).
+ */
+public final class AssertXmlBatch {
+  private static final class Pair {
+    private final String name;
+    private final Path control;
+    private final Path test;
+
+    private Pair(final String name, final Path control, final Path test) {
+      this.name = name;
+      this.control = control;
+      this.test = test;
+    }
+  }
+
+  private final ExecutorService executor;
+  private final ArrayList<Pair> pairs = new ArrayList<>();
+  private final ArrayList<String> unmatched = new ArrayList<>();
+
+  /**
+   * Creates a new {@link AssertXmlBatch} that verifies its comparisons on the {@linkplain ForkJoinPool#commonPool() common pool}.
+   */
+  public AssertXmlBatch() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a new {@link AssertXmlBatch} that verifies its comparisons on the provided {@link ExecutorService}. The
+   * {@code executor} is not shut down by this class.
+   *
+   * @param executor The {@link ExecutorService} on which to verify the comparisons.
+   * @throws NullPointerException If {@code executor} is null.
+   */
+  public AssertXmlBatch(final ExecutorService executor) {
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  /**
+   * Adds a comparison between the provided {@code control} and {@code test} files to this batch.
+   *
+   * @param name The name identifying the comparison in failure messages.
+   * @param control The control file.
+   * @param test The test file.
+   * @return This {@link AssertXmlBatch} instance.
+   * @throws NullPointerException If {@code name}, {@code control}, or {@code test} is null.
+   */
+  public AssertXmlBatch add(final String name, final Path control, final Path test) {
+    pairs.add(new Pair(Objects.requireNonNull(name), Objects.requireNonNull(control), Objects.requireNonNull(test)));
+    return this;
+  }
+
+  /**
+   * Adds comparisons between the regular files in the provided {@code controlDir} and {@code testDir} directories to this batch,
+   * matched by their path relative to the respective directory. Files present in only one of the directories are reported as
+   * failures.
+   *
+   * @param controlDir The directory of control files.
+   * @param testDir The directory of test files.
+   * @return This {@link AssertXmlBatch} instance.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code controlDir} or {@code testDir} is null.
+   */
+  public AssertXmlBatch addDirectories(final Path controlDir, final Path testDir) throws IOException {
+    final TreeSet<String> controlNames = list(controlDir);
+    final TreeSet<String> testNames = list(testDir);
+    for (final String name : controlNames) { // [S]
+      if (testNames.remove(name))
+        add(name, controlDir.resolve(name), testDir.resolve(name));
+      else
+        unmatched.add(name + ": Missing in " + testDir);
+    }
+
+    for (final String name : testNames) // [S]
+      unmatched.add(name + ": Missing in " + controlDir);
+
+    return this;
+  }
+
+  private static TreeSet<String> list(final Path dir) throws IOException {
+    final TreeSet<String> names = new TreeSet<>();
+    try (final Stream<Path> paths = Files.walk(dir)) {
+      paths.filter(Files::isRegularFile).forEach(p -> names.add(dir.relativize(p).toString()));
+    }
+
+    return names;
+  }
+
+  /**
+   * Assert equality of the {@code control} and {@code test} documents of each comparison in this batch. If any are not equal, or
+   * cannot be read, an {@link AssertionError} is thrown that lists every failed comparison, and to which the individual failures are
+   * added as {@linkplain Throwable#getSuppressed() suppressed} exceptions.
+   *
+   * @throws AssertionError If any comparison in this batch has failed.
+   * @throws InterruptedException If the current thread was interrupted while waiting for the comparisons to complete.
+   */
+  public void assertEqual() throws InterruptedException {
+    final int size = pairs.size();
+    final ArrayList<Future<?>> futures = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) { // [RA]
+      final Pair pair = pairs.get(i);
+      futures.add(executor.submit(() -> {
+        AssertXml.compare(Documents.parse(pair.control), Documents.parse(pair.test)).assertEqual(pair.name);
+        return null;
+      }));
+    }
+
+    final StringBuilder builder = new StringBuilder();
+    final ArrayList<Throwable> failures = new ArrayList<>();
+    for (int i = 0; i < size; ++i) { // [RA]
+      try {
+        futures.get(i).get();
+      }
+      catch (final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        failures.add(cause);
+        builder.append("\n  ").append(pairs.get(i).name).append(": ").append(cause instanceof AssertionError ? cause.getMessage() : cause);
+      }
+    }
+
+    for (int i = 0, i$ = unmatched.size(); i < i$; ++i) // [RA]
+      builder.append("\n  ").append(unmatched.get(i));
+
+    final int failed = failures.size() + unmatched.size();
+    if (failed == 0)
+      return;
+
+    final AssertionError error = new AssertionError(failed + " of " + (size + unmatched.size()) + " XML comparisons failed:" + builder);
+    for (int i = 0, i$ = failures.size(); i < i$; ++i) // [RA]
+      error.addSuppressed(failures.get(i));
+
+    throw error;
+  }
+}
@@ -0,0 +1,326 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static javax.xml.stream.XMLStreamConstants.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Objects;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.ComparisonFailure;
+
+/**
+ * A streaming counterpart to {@link AssertXml}, designed to facilitate testing of XML documents that are too large to be materialized
+ * as DOM trees. The {@code control} and {@code test} documents are read in lockstep with StAX, retaining only the path of the current
+ * element in memory.
+ * <p>
+ * Differences are subject to the same rules as in {@link AssertXml#assertEqual()}: differences of attribute values and of
+ * {@code text()} nodes are ignored, as are whitespace-only text nodes. The assertion fails on the first structural divergence with a
+ * {@link ComparisonFailure} that identifies the XPath of the divergence in the {@code control} document.
+ */
+public final class AssertXmlStream {
+  private static final int MAX_TEXT_LENGTH = 64;
+
+  private static final ThreadLocal<XMLInputFactory> factory = new ThreadLocal<XMLInputFactory>() {
+    @Override
+    protected XMLInputFactory initialValue() {
+      final XMLInputFactory factory = XMLInputFactory.newInstance();
+      factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+      factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+      factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+      return factory;
+    }
+  };
+
+  /**
+   * Creates a new {@link AssertXmlStream} comparison instance between the provided {@code control} and {@code test} streams. The
+   * streams are not closed by this class.
+   *
+   * @param control The control stream.
+   * @param test The test stream.
+   * @return A new {@link AssertXmlStream} comparison instance.
+   * @throws NullPointerException If {@code control} or {@code test} is null.
+   */
+  public static AssertXmlStream compare(final InputStream control, final InputStream test) {
+    return new AssertXmlStream(Objects.requireNonNull(control), Objects.requireNonNull(test), null, null);
+  }
+
+  /**
+   * Creates a new {@link AssertXmlStream} comparison instance between the provided {@code control} and {@code test} files. The files
+   * are opened upon assertion.
+   *
+   * @param control The control file.
+   * @param test The test file.
+   * @return A new {@link AssertXmlStream} comparison instance.
+   * @throws NullPointerException If {@code control} or {@code test} is null.
+   */
+  public static AssertXmlStream compare(final Path control, final Path test) {
+    return new AssertXmlStream(null, null, Objects.requireNonNull(control), Objects.requireNonNull(test));
+  }
+
+  /**
+   * An element on the current path, whose XPath is only built when needed.
+   */
+  private static final class Frame {
+    private final Frame parent;
+    private final String localName;
+    private final int index;
+    private HashMap<String,Integer> elements;
+    private int comments;
+    private int instructions;
+
+    private Frame(final Frame parent, final String localName, final int index) {
+      this.parent = parent;
+      this.localName = localName;
+      this.index = index;
+    }
+
+    private Frame push(final String localName) {
+      if (elements == null)
+        elements = new HashMap<>();
+
+      final Integer count = elements.get(localName);
+      final int index = count == null ? 1 : count + 1;
+      elements.put(localName, index);
+      return new Frame(this, localName, index);
+    }
+
+    private StringBuilder xPath(final StringBuilder builder) {
+      if (parent != null)
+        parent.xPath(builder).append('/').append(localName).append('[').append(index).append(']');
+
+      return builder;
+    }
+
+    private String xPath() {
+      return parent == null ? "/" : xPath(new StringBuilder()).toString();
+    }
+
+    private String xPath(final String child) {
+      return xPath(new StringBuilder()).append('/').append(child).toString();
+    }
+  }
+
+  private final InputStream controlStream;
+  private final InputStream testStream;
+  private final Path controlPath;
+  private final Path testPath;
+
+  private AssertXmlStream(final InputStream controlStream, final InputStream testStream, final Path controlPath, final Path testPath) {
+    this.controlStream = controlStream;
+    this.testStream = testStream;
+    this.controlPath = controlPath;
+    this.testPath = testPath;
+  }
+
+  /**
+   * Assert equality of the {@code control} and {@code test} documents in this {@link AssertXmlStream} instance. If they are not, a
+   * {@link ComparisonFailure} without a message is thrown.
+   *
+   * @throws ComparisonFailure If the {@code control} and {@code test} documents in this {@link AssertXmlStream} instance are not
+   *           equal.
+   * @throws IOException If an I/O error has occurred.
+   * @throws XMLStreamException If a document is not well-formed.
+   */
+  public void assertEqual() throws IOException, XMLStreamException {
+    assertEqual(null);
+  }
+
+  /**
+   * Assert equality of the {@code control} and {@code test} documents in this {@link AssertXmlStream} instance. If they are not, a
+   * {@link ComparisonFailure} is thrown with the given message.
+   *
+   * @param message The identifying message for the {@link ComparisonFailure} (null is okay).
+   * @throws ComparisonFailure If the {@code control} and {@code test} documents in this {@link AssertXmlStream} instance are not
+   *           equal.
+   * @throws IOException If an I/O error has occurred.
+   * @throws XMLStreamException If a document is not well-formed.
+   */
+  public void assertEqual(final String message) throws IOException, XMLStreamException {
+    if (controlStream != null) {
+      assertEqual(message, controlStream, testStream);
+    }
+    else {
+      try (
+        final InputStream control = Files.newInputStream(controlPath);
+        final InputStream test = Files.newInputStream(testPath);
+      ) {
+        assertEqual(message, control, test);
+      }
+    }
+  }
+
+  private static void assertEqual(final String message, final InputStream controlStream, final InputStream testStream) throws XMLStreamException {
+    final XMLInputFactory factory = AssertXmlStream.factory.get();
+    final XMLStreamReader control = factory.createXMLStreamReader(controlStream);
+    try {
+      final XMLStreamReader test = factory.createXMLStreamReader(testStream);
+      try {
+        assertEqual(message, control, test);
+      }
+      finally {
+        test.close();
+      }
+    }
+    finally {
+      control.close();
+    }
+  }
+
+  private static void assertEqual(final String message, final XMLStreamReader control, final XMLStreamReader test) throws XMLStreamException {
+    Frame frame = new Frame(null, null, 0);
+    int event;
+    do {
+      event = next(control);
+      if (event != next(test))
+        fail(message, frame.xPath(), describe(control, event), describe(test, test.getEventType()));
+
+      if (event == START_ELEMENT) {
+        frame = frame.push(control.getLocalName());
+        if (!Objects.equals(nonNull(control.getNamespaceURI()), nonNull(test.getNamespaceURI())) || !control.getLocalName().equals(test.getLocalName()) || !Objects.equals(nonNull(control.getPrefix()), nonNull(test.getPrefix())))
+          fail(message, frame.xPath(), describe(control, event), describe(test, event));
+
+        compareAttributes(message, frame, control, test);
+      }
+      else if (event == END_ELEMENT) {
+        frame = frame.parent;
+      }
+      else if (event == COMMENT) {
+        ++frame.comments;
+        if (!control.getText().equals(test.getText())) {
+          final String xPath = frame.xPath("comment()[" + frame.comments + "]");
+          if (!AssertXml.isIgnorable(xPath))
+            fail(message, xPath, describe(control, event), describe(test, event));
+        }
+      }
+      else if (event == PROCESSING_INSTRUCTION) {
+        ++frame.instructions;
+        if (!control.getPITarget().equals(test.getPITarget()) || !Objects.equals(control.getPIData(), test.getPIData())) {
+          final String xPath = frame.xPath("processing-instruction()[" + frame.instructions + "]");
+          if (!AssertXml.isIgnorable(xPath))
+            fail(message, xPath, describe(control, event), describe(test, event));
+        }
+      }
+
+      // Differences of text() nodes are always ignorable, so CHARACTERS events need only to be matched
+    }
+    while (event != END_DOCUMENT);
+  }
+
+  private static void compareAttributes(final String message, final Frame frame, final XMLStreamReader control, final XMLStreamReader test) {
+    final int count = control.getAttributeCount();
+    if (count != test.getAttributeCount())
+      fail(message, frame.xPath(), describe(control, START_ELEMENT), describe(test, START_ELEMENT));
+
+    for (int i = 0; i < count; ++i) { // [N]
+      final String namespaceURI = nonNull(control.getAttributeNamespace(i));
+      final String localName = control.getAttributeLocalName(i);
+      final String value = control.getAttributeValue(i);
+      String testValue = null;
+      for (int j = 0; j < count; ++j) { // [N]
+        if (localName.equals(test.getAttributeLocalName(j)) && namespaceURI.equals(nonNull(test.getAttributeNamespace(j)))) {
+          testValue = test.getAttributeValue(j);
+          break;
+        }
+      }
+
+      if (!value.equals(testValue)) {
+        final String xPath = frame.xPath("@" + localName);
+        if (!AssertXml.isIgnorable(xPath))
+          fail(message, xPath, describe(control, START_ELEMENT), describe(test, START_ELEMENT));
+      }
+    }
+  }
+
+  /**
+   * Advances the provided {@link XMLStreamReader} to the next event that is significant to the comparison.
+   *
+   * @param reader The {@link XMLStreamReader}.
+   * @return The type of the next significant event, with {@link XMLStreamReader#CDATA CDATA} reported as
+   *         {@link XMLStreamReader#CHARACTERS CHARACTERS}.
+   * @throws XMLStreamException If the document is not well-formed.
+   */
+  private static int next(final XMLStreamReader reader) throws XMLStreamException {
+    while (reader.hasNext()) {
+      final int event = reader.next();
+      switch (event) {
+        case START_ELEMENT:
+        case END_ELEMENT:
+        case COMMENT:
+        case PROCESSING_INSTRUCTION:
+        case END_DOCUMENT:
+          return event;
+        case CHARACTERS:
+        case CDATA:
+          if (!reader.isWhiteSpace())
+            return CHARACTERS;
+      }
+    }
+
+    return END_DOCUMENT;
+  }
+
+  private static String nonNull(final String value) {
+    return value == null ? "" : value;
+  }
+
+  private static String qName(final String prefix, final String localName) {
+    return prefix == null || prefix.length() == 0 ? localName : prefix + ":" + localName;
+  }
+
+  private static String describe(final XMLStreamReader reader, final int event) {
+    switch (event) {
+      case START_ELEMENT:
+        final StringBuilder builder = new StringBuilder();
+        builder.append('<').append(qName(reader.getPrefix(), reader.getLocalName()));
+        final String namespaceURI = reader.getNamespaceURI();
+        if (namespaceURI != null && namespaceURI.length() > 0)
+          builder.append(" {").append(namespaceURI).append('}');
+
+        for (int i = 0, i$ = reader.getAttributeCount(); i < i$; ++i) // [N]
+          builder.append(' ').append(qName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i))).append("=\"").append(reader.getAttributeValue(i)).append('"');
+
+        return builder.append('>').toString();
+      case END_ELEMENT:
+        return "</" + qName(reader.getPrefix(), reader.getLocalName()) + ">";
+      case CHARACTERS:
+      case CDATA:
+        final String text = reader.getText().trim();
+        return text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) + "..." : text;
+      case COMMENT:
+        return "<!--" + reader.getText() + "-->";
+      case PROCESSING_INSTRUCTION:
+        return "<?" + reader.getPITarget() + (reader.getPIData() == null ? "" : " " + reader.getPIData()) + "?>";
+      case END_DOCUMENT:
+        return "EOF";
+      default:
+        throw new IllegalStateException("Unexpected event: " + event);
+    }
+  }
+
+  private static void fail(final String message, final String xPath, final String expected, final String actual) {
+    throw new ComparisonFailure((message != null ? message + ": " : "") + "Difference at " + xPath, expected, actual);
+  }
+}
@@ -0,0 +1,332 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.libj.lang.Classes;
+
+/**
+ * A cache of the declarative order of the methods of test classes, as determined by {@link Classes#sortDeclarativeOrder(Method[],boolean)},
+ * which parses the bytecode of the classes with Javassist. Orders are keyed by the name of the test class, the group of its methods
+ * (i.e. the annotation by which they were scanned), a SHA-1 hash of the class files of the class and its superclasses, so that an
+ * order is reused for as long as none of the class files change, and a SHA-1 hash of the signatures of the sorted methods, so that
+ * the orders of different subsets of the methods of a class (such as of filtered runs) do not replace each other.
+ * <p>
+ * Orders are kept in memory per JVM, and are persisted to an index file, {@code target/declarative-order.idx} by default, which is
+ * shared by concurrent JVMs (such as Surefire forks) under a {@link FileLock}: each new order is appended to the file, and the file is
+ * read once per JVM upon first use. Upon the append of an order, the file is compacted if it contains repeated orders, which may have
+ * been appended by a concurrent JVM, or orders of the same class and group for class files that have since changed. If the
+ * {@code target} directory does not exist, orders are kept in memory only.
+ */
+final class DeclarativeOrderCache {
+  private static final String FILE_NAME = "declarative-order.idx";
+  private static final char[] hex = "0123456789abcdef".toCharArray();
+
+  private static final class Default {
+    private static final DeclarativeOrderCache instance;
+
+    static {
+      final Path target = Paths.get("target");
+      instance = new DeclarativeOrderCache(Files.isDirectory(target) ? target.resolve(FILE_NAME) : null);
+    }
+  }
+
+  /**
+   * Returns the default {@link DeclarativeOrderCache}, which is persisted to {@code target/declarative-order.idx} in the working
+   * directory.
+   */
+  static DeclarativeOrderCache getDefault() {
+    return Default.instance;
+  }
+
+  private static final ConcurrentHashMap<Class<?>,byte[]> classHashes = new ConcurrentHashMap<>();
+
+  private static byte[] digest(final Class<?> cls) {
+    final ClassLoader classLoader = cls.getClassLoader();
+    if (classLoader == null)
+      return new byte[0];
+
+    final byte[] hash = classHashes.get(cls);
+    if (hash != null)
+      return hash;
+
+    try (final InputStream in = classLoader.getResourceAsStream(cls.getName().replace('.', '/') + ".class")) {
+      if (in == null)
+        return null;
+
+      final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      final byte[] buffer = new byte[8192];
+      for (int len; (len = in.read(buffer)) != -1;) // [N]
+        digest.update(buffer, 0, len);
+
+      final byte[] value = digest.digest();
+      classHashes.put(cls, value);
+      return value;
+    }
+    catch (final IOException | NoSuchAlgorithmException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the key of the order of the methods with the provided {@code signatures} of the provided {@code group} of the provided
+   * class, of the form {@code <class>|<group>|<class files hash>|<signatures hash>}, or {@code null} if the class files of the class or
+   * of one of its superclasses cannot be read.
+   */
+  static String key(final Class<?> testClass, final String group, final String[] signatures) {
+    final ByteArrayOutputStream hashes = new ByteArrayOutputStream();
+    for (Class<?> cls = testClass; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+      final byte[] hash = digest(cls);
+      if (hash == null)
+        return null;
+
+      hashes.write(hash, 0, hash.length);
+    }
+
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1");
+    }
+    catch (final NoSuchAlgorithmException e) {
+      return null;
+    }
+
+    final StringBuilder builder = new StringBuilder(testClass.getName()).append('|').append(group).append('|');
+    appendHex(builder, digest.digest(hashes.toByteArray()));
+
+    // The hash of the signatures is independent of the order in which the methods are provided
+    final String[] sorted = signatures.clone();
+    Arrays.sort(sorted);
+    for (final String signature : sorted) // [A]
+      digest.update((signature + '\n').getBytes(StandardCharsets.UTF_8));
+
+    return appendHex(builder.append('|'), digest.digest()).toString();
+  }
+
+  private static StringBuilder appendHex(final StringBuilder builder, final byte[] bytes) {
+    for (final byte b : bytes) // [A]
+      builder.append(hex[(b >> 4) & 0xf]).append(hex[b & 0xf]);
+
+    return builder;
+  }
+
+  /**
+   * Returns whether the order of the provided {@code key} is of the same class and group as the order of the provided {@code newKey},
+   * but for class files that have since changed.
+   */
+  private static boolean isStale(final String key, final String newKey) {
+    final int signatures = newKey.lastIndexOf('|');
+    final int classFiles = newKey.lastIndexOf('|', signatures - 1) + 1;
+    return key.length() == newKey.length() && key.regionMatches(0, newKey, 0, classFiles) && !key.regionMatches(classFiles, newKey, classFiles, signatures - classFiles);
+  }
+
+  private static String signature(final Method method) {
+    final StringBuilder builder = new StringBuilder(method.getDeclaringClass().getName()).append('#').append(method.getName()).append('(');
+    final Class<?>[] parameterTypes = method.getParameterTypes();
+    for (int i = 0; i < parameterTypes.length; ++i) { // [A]
+      if (i > 0)
+        builder.append(',');
+
+      builder.append(parameterTypes[i].getName());
+    }
+
+    return builder.append(')').toString();
+  }
+
+  private final Path file;
+  private final ConcurrentHashMap<String,String[]> orders = new ConcurrentHashMap<>();
+  private volatile boolean loaded;
+  private final AtomicInteger misses = new AtomicInteger();
+
+  /**
+   * Creates a new {@link DeclarativeOrderCache} that is persisted to the provided index {@code file}.
+   *
+   * @param file The index file, or {@code null} to keep orders in memory only.
+   */
+  DeclarativeOrderCache(final Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Sorts the provided methods of the provided {@code group} of the provided test class in their declarative order, by the cached
+   * order if the class files of the test class have not changed since it was cached, or otherwise by
+   * {@link Classes#sortDeclarativeOrder(Method[],boolean)}, upon which the order is cached.
+   *
+   * @param testClass The test class.
+   * @param group The name of the group of the methods, such as the name of the annotation by which they were scanned.
+   * @param methods The methods to sort.
+   * @throws ClassNotFoundException If Javassist is not present on the system classpath.
+   */
+  void sort(final Class<?> testClass, final String group, final Method[] methods) throws ClassNotFoundException {
+    final String[] signatures = new String[methods.length];
+    for (int i = 0; i < methods.length; ++i) // [A]
+      signatures[i] = signature(methods[i]);
+
+    final String key = key(testClass, group, signatures);
+    if (key != null) {
+      load();
+      final String[] order = orders.get(key);
+      if (order != null && apply(order, methods))
+        return;
+    }
+
+    misses.incrementAndGet();
+    Classes.sortDeclarativeOrder(methods, true);
+    if (key != null) {
+      final String[] order = new String[methods.length];
+      for (int i = 0; i < methods.length; ++i) // [A]
+        order[i] = signature(methods[i]);
+
+      // Of concurrent sorts of the same methods, only the first caches and appends its order
+      if (orders.putIfAbsent(key, order) == null)
+        append(key, order);
+    }
+  }
+
+  /**
+   * Returns the number of sorts that were not served from this cache.
+   */
+  int getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * Reorders the provided methods by the provided signatures, and returns {@code true}, or returns {@code false} if the methods do
+   * not correspond to the signatures.
+   */
+  private static boolean apply(final String[] order, final Method[] methods) {
+    if (order.length != methods.length)
+      return false;
+
+    final HashMap<String,Method> signatures = new HashMap<>();
+    for (final Method method : methods) // [A]
+      signatures.put(signature(method), method);
+
+    final Method[] sorted = new Method[methods.length];
+    for (int i = 0; i < order.length; ++i) // [A]
+      if ((sorted[i] = signatures.get(order[i])) == null)
+        return false;
+
+    System.arraycopy(sorted, 0, methods, 0, methods.length);
+    return true;
+  }
+
+  private void load() {
+    if (loaded || file == null)
+      return;
+
+    synchronized (this) {
+      if (loaded)
+        return;
+
+      if (Files.exists(file)) {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+          // The lock is released when the channel is closed
+          channel.lock(0, Long.MAX_VALUE, true);
+          for (final String line : read(channel)) { // [A]
+            // An entry is a line of the key and the signatures of the methods, separated by tabs
+            final String[] parts = line.split("\t");
+            if (parts.length > 1) {
+              final String[] order = new String[parts.length - 1];
+              System.arraycopy(parts, 1, order, 0, order.length);
+              orders.put(parts[0], order);
+            }
+          }
+        }
+        catch (final IOException e) {
+          // The index is a cache, which is rebuilt upon failure to read it
+        }
+      }
+
+      loaded = true;
+    }
+  }
+
+  private static String[] read(final FileChannel channel) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate((int)channel.size());
+    while (buffer.hasRemaining())
+      if (channel.read(buffer, buffer.position()) == -1)
+        break;
+
+    return buffer.position() == 0 ? new String[0] : new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).split("\n");
+  }
+
+  private void append(final String key, final String[] order) {
+    if (file == null)
+      return;
+
+    final StringBuilder builder = new StringBuilder(key);
+    for (final String signature : order) // [A]
+      builder.append('\t').append(signature);
+
+    final String entry = builder.append('\n').toString();
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // The lock is released when the channel is closed
+      channel.lock();
+
+      // Repeated entries of a key (appended by concurrent JVMs) and stale entries are removed, upon which the file is rewritten
+      final String[] lines = read(channel);
+      final HashSet<String> keys = new HashSet<>();
+      keys.add(key);
+      final StringBuilder compacted = new StringBuilder();
+      boolean compact = false;
+      for (final String line : lines) { // [A]
+        final int tab = line.indexOf('\t');
+        if (tab < 0 || !keys.add(line.substring(0, tab)) || isStale(line.substring(0, tab), key))
+          compact = true;
+        else
+          compacted.append(line).append('\n');
+      }
+
+      final ByteBuffer buffer;
+      if (compact) {
+        buffer = ByteBuffer.wrap(compacted.append(entry).toString().getBytes(StandardCharsets.UTF_8));
+        channel.truncate(0);
+        channel.position(0);
+      }
+      else {
+        buffer = ByteBuffer.wrap(entry.getBytes(StandardCharsets.UTF_8));
+        channel.position(channel.size());
+      }
+
+      while (buffer.hasRemaining())
+        channel.write(buffer);
+    }
+    catch (final IOException e) {
+      // The index is a cache, to which a failure to append is not fatal
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The index of the declarative order of the methods of classes, as recorded at compile time by {@link DeclarativeOrderProcessor} in
+ * the resource {@code declarative-order/<name>} relative to the package of each class. The resources are kept out of the root of the
+ * class output, and out of the listing of the class files of a package. Each resource is read once per JVM.
+ */
+final class DeclarativeOrderIndex {
+  private static final String PATH = "declarative-order/";
+
+  private static final Map<String,Integer> missing = Collections.emptyMap();
+  private static final ConcurrentHashMap<Class<?>,Map<String,Integer>> indexes = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the name of the resource of the index of the class with the provided binary name, relative to the package of the class.
+   *
+   * @param binaryName The binary name of the class.
+   * @return The name of the resource of the index of the class with the provided binary name, relative to the package of the class.
+   */
+  static String name(final String binaryName) {
+    return PATH + binaryName.substring(binaryName.lastIndexOf('.') + 1);
+  }
+
+  /**
+   * Returns the map of the names of the methods of the provided class to their position in its source, or an empty map if the
+   * class has no index.
+   */
+  private static Map<String,Integer> get(final Class<?> cls) {
+    Map<String,Integer> index = indexes.get(cls);
+    if (index == null)
+      indexes.put(cls, index = read(cls));
+
+    return index;
+  }
+
+  private static Map<String,Integer> read(final Class<?> cls) {
+    final InputStream in = cls.getResourceAsStream(name(cls.getName()));
+    if (in == null)
+      return missing;
+
+    final HashMap<String,Integer> index = new HashMap<>();
+    try (final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+      // The position of an overloaded method is that of its first declaration
+      for (String name; (name = reader.readLine()) != null;) // [N]
+        index.putIfAbsent(name, index.size());
+    }
+    catch (final IOException e) {
+      return missing;
+    }
+
+    return index;
+  }
+
+  private static int depth(Class<?> cls) {
+    int depth = 0;
+    while ((cls = cls.getSuperclass()) != null)
+      ++depth;
+
+    return depth;
+  }
+
+  /**
+   * Sorts the provided methods in their declarative order, with the methods of superclasses first, as by
+   * {@link org.libj.lang.Classes#sortDeclarativeOrder(Method[],boolean) Classes.sortDeclarativeOrder(methods, true)}, and returns
+   * {@code true}, or returns {@code false} without modifying the array if the declaring class of a method has no index, or its index
+   * does not contain the method.
+   *
+   * @param methods The methods to sort.
+   * @return Whether the methods were sorted.
+   */
+  static boolean sort(final Method[] methods) {
+    final IdentityHashMap<Method,long[]> keys = new IdentityHashMap<>(methods.length);
+    final IdentityHashMap<Class<?>,Integer> depths = new IdentityHashMap<>();
+    for (final Method method : methods) { // [A]
+      final Class<?> cls = method.getDeclaringClass();
+      final Integer position = get(cls).get(method.getName());
+      if (position == null)
+        return false;
+
+      Integer depth = depths.get(cls);
+      if (depth == null)
+        depths.put(cls, depth = depth(cls));
+
+      keys.put(method, new long[] {depth, position});
+    }
+
+    Arrays.sort(methods, (final Method o1, final Method o2) -> {
+      final long[] k1 = keys.get(o1);
+      final long[] k2 = keys.get(o2);
+      final int c = Long.compare(k1[0], k2[0]);
+      return c != 0 ? c : Long.compare(k1[1], k2[1]);
+    });
+
+    return true;
+  }
+
+  private DeclarativeOrderIndex() {
+  }
+}
@@ -0,0 +1,102 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor that records the order of declaration of the methods of each class that declares JUnit test or fixture
+ * methods (i.e. methods annotated with {@link org.junit.Test}, {@link org.junit.Before}, {@link org.junit.After},
+ * {@link org.junit.BeforeClass}, or {@link org.junit.AfterClass}) in the resource {@code declarative-order/<name>} relative to the
+ * package of the class, where {@code <name>} is the binary name of the class without its package, with one method name per line.
+ * The index is read by {@link DeclarativeOrderTestClass}, which thereby orders the methods of the class without parsing its
+ * bytecode.
+ * <p>
+ * The processor is registered in {@code META-INF/services/javax.annotation.processing.Processor}. Up to JDK 22, {@code javac}
+ * discovers it on the classpath, and runs it whenever test sources are compiled with this artifact on the classpath. As of JDK 23,
+ * {@code javac} no longer runs processors that are discovered on the classpath unless annotation processing is requested
+ * explicitly, which is to be configured for the compilation of the test sources by either:
+ * <ul>
+ * <li>{@code -proc:full} (i.e. {@code <proc>full</proc>} in the configuration of the {@code maven-compiler-plugin}), or</li>
+ * <li>{@code -processorpath} with this artifact (i.e. {@code <annotationProcessorPaths>} in the configuration of the
+ * {@code maven-compiler-plugin}), or {@code -processor org.libj.test.DeclarativeOrderProcessor}.</li>
+ * </ul>
+ * Otherwise, no index is written, without any warning, and {@link DeclarativeOrderTestClass} falls back to the order that is
+ * determined from the bytecode of the class with Javassist. The processor does not claim the annotations it processes.
+ */
+@SupportedAnnotationTypes({"org.junit.Test", "org.junit.Before", "org.junit.After", "org.junit.BeforeClass", "org.junit.AfterClass"})
+public class DeclarativeOrderProcessor extends AbstractProcessor {
+  private final HashSet<String> written = new HashSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    final LinkedHashSet<TypeElement> types = new LinkedHashSet<>();
+    for (final TypeElement annotation : annotations) // [S]
+      for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) // [S]
+        if (element.getKind() == ElementKind.METHOD)
+          types.add((TypeElement)element.getEnclosingElement());
+
+    for (final TypeElement type : types) // [S]
+      write(type);
+
+    return false;
+  }
+
+  private void write(final TypeElement type) {
+    final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    if (!written.add(binaryName))
+      return;
+
+    final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+
+    // The enclosed elements of a type are in the order of their declaration in its source
+    final StringBuilder builder = new StringBuilder();
+    final List<? extends Element> elements = type.getEnclosedElements();
+    for (int i = 0, i$ = elements.size(); i < i$; ++i) { // [RA]
+      final Element element = elements.get(i);
+      if (element.getKind() == ElementKind.METHOD)
+        builder.append(element.getSimpleName()).append('\n');
+    }
+
+    try (final Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, packageName, DeclarativeOrderIndex.name(binaryName), type).openWriter()) {
+      writer.write(builder.toString());
+    }
+    catch (final IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Unable to write declarative order of " + binaryName + ": " + e.getMessage(), type);
+    }
+  }
+}
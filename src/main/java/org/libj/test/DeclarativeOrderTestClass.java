@@ -25,14 +25,18 @@ import java.util.Map;
 import org.junit.runners.model.FrameworkField;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.TestClass;
-import org.libj.lang.Classes;
 
 /**
  * A subclass of {@link TestClass} that sorts test method execution in the order of declaration of the test methods in the source of
  * the test class. The use of this class overrides the effect of the {@link org.junit.FixMethodOrder} annotation.
+ * <p>
+ * The order is read from the index that is generated at compile time by {@link DeclarativeOrderProcessor}, which as of JDK 23 is run
+ * only if the compiler is configured to do so, as described there. For classes that were not compiled with the processor, the order
+ * is determined from the line numbers in their bytecode, and is cached by the content hash of their class files, in memory and in
+ * {@code target/declarative-order.idx}, so that the bytecode of an unchanged test class is not parsed again in subsequent runs.
  *
- * @implNote Javassist must be present on the system classpath, and line number information must be available in the bytecode of the
- *           test class.
+ * @implNote For classes that were not compiled with {@link DeclarativeOrderProcessor}, Javassist must be present on the system
+ *           classpath, and line number information must be available in the bytecode of the test class.
  */
 public class DeclarativeOrderTestClass extends TestClass {
   public DeclarativeOrderTestClass(final Class<?> clazz) {
@@ -44,13 +48,15 @@ public class DeclarativeOrderTestClass extends TestClass {
     final LinkedHashMap<Class<? extends Annotation>,List<FrameworkMethod>> temp = new LinkedHashMap<>();
     super.scanAnnotatedMembers(temp, fieldsForAnnotations);
 
-    for (final List<FrameworkMethod> frameworkMethods : temp.values()) { // [C]
+    for (final Map.Entry<Class<? extends Annotation>,List<FrameworkMethod>> entry : temp.entrySet()) { // [S]
+      final List<FrameworkMethod> frameworkMethods = entry.getValue();
       final Method[] methods = new Method[frameworkMethods.size()];
       for (int i = 0, i$ = frameworkMethods.size(); i < i$; ++i) // [RA]
         methods[i] = frameworkMethods.get(i).getMethod();
 
       try {
-        Classes.sortDeclarativeOrder(methods, true);
+        if (!DeclarativeOrderIndex.sort(methods))
+          DeclarativeOrderCache.getDefault().sort(getJavaClass(), entry.getKey().getName(), methods);
       }
       catch (final ClassNotFoundException e) {
         throw new IllegalStateException("Javassist is not present on the system classpath", e);
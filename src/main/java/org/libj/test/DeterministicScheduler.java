@@ -0,0 +1,344 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService ExecutorService} that serializes its tasks, and interleaves them deterministically at yield points, in order to
+ * reproducibly explore the interleavings of concurrent code. It is intended to be the target of a {@link TestExecutorService}.
+ * <p>
+ * Each task runs on its own thread, but only one task runs at a time. Control passes between tasks only when a task starts, ends, or
+ * calls {@link #yieldPoint()}, at which point the next task to run is chosen by the strategy of the scheduler:
+ * <ul>
+ * <li>{@link #random(long)}: A task is chosen uniformly at random with a PRNG of the given seed.</li>
+ * <li>{@link #pct(long,int,int)}: A task is chosen by Probabilistic Concurrency Testing, i.e. the task of highest priority runs, with
+ * random initial priorities and {@code depth - 1} random priority change points, which finds any bug of the given depth with a
+ * probability that is guaranteed to be at least {@code 1 / (n * steps^(depth-1))} for {@code n} tasks.</li>
+ * </ul>
+ * Given the same seed and the same tasks, the interleaving is the same, so that a failure can be replayed from the seed that is
+ * reported by {@link #explore(long,int,LongFunction,Body)}.
+ * <p>
+ * Tasks start to run upon {@link #shutdown()}. Because only one task runs at a time, tasks must not block on one another other than
+ * by spinning on {@link #yieldPoint()}.
+ */
+public final class DeterministicScheduler extends AbstractExecutorService {
+  private static final long TIMEOUT = 10;
+
+  /**
+   * The body of an exploration, which submits tasks to the provided executor, and may then
+   * {@linkplain TestExecutorService#shutdown() shut it down} and {@linkplain TestExecutorService#awaitTermination(long,TimeUnit) await
+   * its termination} to assert post-conditions.
+   */
+  @FunctionalInterface
+  public interface Body {
+    /**
+     * Submits tasks to the provided executor, and optionally asserts post-conditions after its termination.
+     *
+     * @param executor The {@link TestExecutorService} that targets a {@link DeterministicScheduler}.
+     * @throws Exception If an exception has occurred.
+     */
+    void run(TestExecutorService executor) throws Exception;
+  }
+
+  /**
+   * Creates a new {@link DeterministicScheduler} that chooses the next task uniformly at random.
+   *
+   * @param seed The seed of the PRNG.
+   * @return A new {@link DeterministicScheduler} that chooses the next task uniformly at random.
+   */
+  public static DeterministicScheduler random(final long seed) {
+    return new DeterministicScheduler(seed, 0, 0);
+  }
+
+  /**
+   * Creates a new {@link DeterministicScheduler} that chooses the next task by Probabilistic Concurrency Testing.
+   *
+   * @param seed The seed of the PRNG.
+   * @param depth The depth of the bugs to find, i.e. the number of ordering constraints that must be met to trigger them.
+   * @param steps The expected number of scheduling steps, among which the {@code depth - 1} priority change points are chosen.
+   * @return A new {@link DeterministicScheduler} that chooses the next task by Probabilistic Concurrency Testing.
+   * @throws IllegalArgumentException If {@code depth} or {@code steps} is not positive.
+   */
+  public static DeterministicScheduler pct(final long seed, final int depth, final int steps) {
+    if (depth <= 0)
+      throw new IllegalArgumentException("depth (" + depth + ") must be positive");
+
+    if (steps <= 0)
+      throw new IllegalArgumentException("steps (" + steps + ") must be positive");
+
+    return new DeterministicScheduler(seed, depth, steps);
+  }
+
+  /**
+   * Runs the provided {@link Body} once on a {@link TestExecutorService} that targets the provided {@link DeterministicScheduler},
+   * which is shut down and awaited after the body returns.
+   *
+   * @param scheduler The {@link DeterministicScheduler}.
+   * @param body The {@link Body}.
+   * @throws AssertionError If the tasks did not terminate within 10 seconds, which is the case if a task blocked other than at a
+   *           yield point.
+   * @throws Exception If the body or a task has failed, as by {@link TestExecutorService#awaitTermination(long,TimeUnit)}.
+   * @throws NullPointerException If {@code scheduler} or {@code body} is null.
+   */
+  public static void run(final DeterministicScheduler scheduler, final Body body) throws Exception {
+    final TestExecutorService executor = new TestExecutorService(scheduler);
+    try {
+      body.run(executor);
+      executor.shutdown();
+      if (!executor.awaitTermination(TIMEOUT, TimeUnit.SECONDS))
+        throw new AssertionError("Tasks did not terminate within " + TIMEOUT + "s, because a task is blocked other than at a yield point");
+    }
+    finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  /**
+   * Runs the provided {@link Body} for the provided number of {@code iterations}, each on a new {@link DeterministicScheduler} that
+   * is created by the provided {@code factory} with the seeds {@code seed}, {@code seed + 1}, and so on. The first failure is thrown
+   * as the cause of an {@link AssertionError} that identifies the scheduler and seed with which the failure can be replayed by
+   * {@link #run(DeterministicScheduler,Body)}.
+   *
+   * @param seed The seed of the first iteration.
+   * @param iterations The number of iterations.
+   * @param factory The factory of the {@link DeterministicScheduler} of each seed, e.g. {@code DeterministicScheduler::random}.
+   * @param body The {@link Body}.
+   * @throws AssertionError If an iteration has failed.
+   * @throws NullPointerException If {@code factory} or {@code body} is null.
+   */
+  public static void explore(final long seed, final int iterations, final LongFunction<DeterministicScheduler> factory, final Body body) {
+    Objects.requireNonNull(body);
+    for (int i = 0; i < iterations; ++i) { // [N]
+      final DeterministicScheduler scheduler = factory.apply(seed + i);
+      try {
+        run(scheduler, body);
+      }
+      catch (final Throwable t) {
+        throw new AssertionError("Interleaving " + (i + 1) + " of " + iterations + " failed, replay with " + scheduler, t);
+      }
+    }
+  }
+
+  /**
+   * Passes control to the task that is chosen by the {@link DeterministicScheduler} of the current thread, and returns when control
+   * is passed back to the current task. If the current thread is not running a task of a {@link DeterministicScheduler}, this method
+   * returns immediately.
+   */
+  public static void yieldPoint() {
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof Worker)
+      ((Worker)thread).scheduler().yield((Worker)thread);
+  }
+
+  private final class Worker extends Thread {
+    private final Runnable task;
+    private int priority;
+
+    private Worker(final Runnable task, final int id, final int priority) {
+      super("DeterministicScheduler-" + id);
+      this.task = task;
+      this.priority = priority;
+      setDaemon(true);
+    }
+
+    private DeterministicScheduler scheduler() {
+      return DeterministicScheduler.this;
+    }
+
+    @Override
+    public void run() {
+      await(this);
+      try {
+        task.run();
+      }
+      catch (final Throwable t) {
+        // Failures are recorded by the TestExecutorService
+      }
+      finally {
+        synchronized (DeterministicScheduler.this) {
+          workers.remove(this);
+          schedule();
+        }
+      }
+    }
+  }
+
+  private final long seed;
+  private final Random random;
+  private final int depth;
+  private final int steps;
+  private final int[] changePoints;
+  private final ArrayList<Worker> workers = new ArrayList<>();
+  private Worker current;
+  private int count;
+  private int step;
+  private boolean shutdown;
+  private boolean aborted;
+
+  private DeterministicScheduler(final long seed, final int depth, final int steps) {
+    this.seed = seed;
+    this.random = new Random(seed);
+    this.depth = depth;
+    this.steps = steps;
+    if (depth > 1) {
+      changePoints = new int[depth - 1];
+      for (int i = 0; i < changePoints.length; ++i) // [A]
+        changePoints[i] = 1 + random.nextInt(steps);
+    }
+    else {
+      changePoints = null;
+    }
+  }
+
+  /**
+   * Chooses the next task to run, and passes control to it. Must be called while holding the lock of this instance.
+   */
+  private void schedule() {
+    ++step;
+    if (changePoints != null && current != null)
+      for (int i = 0; i < changePoints.length; ++i) // [A]
+        if (changePoints[i] == step)
+          current.priority = depth - 1 - i;
+
+    final int size = workers.size();
+    if (size == 0) {
+      current = null;
+    }
+    else if (depth == 0) {
+      current = workers.get(random.nextInt(size));
+    }
+    else {
+      Worker next = workers.get(0);
+      for (int i = 1; i < size; ++i) { // [RA]
+        final Worker worker = workers.get(i);
+        if (worker.priority > next.priority)
+          next = worker;
+      }
+
+      current = next;
+    }
+
+    if (current != null && current.getState() == Thread.State.NEW)
+      current.start();
+
+    notifyAll();
+  }
+
+  private synchronized void await(final Worker worker) {
+    boolean interrupted = false;
+    while (current != worker && !aborted) {
+      try {
+        wait();
+      }
+      catch (final InterruptedException e) {
+        interrupted = true;
+      }
+    }
+
+    if (interrupted)
+      worker.interrupt();
+  }
+
+  private void yield(final Worker worker) {
+    synchronized (this) {
+      if (aborted || current != worker)
+        return;
+
+      schedule();
+    }
+
+    await(worker);
+  }
+
+  @Override
+  public synchronized void execute(final Runnable command) {
+    Objects.requireNonNull(command);
+    final Thread thread = Thread.currentThread();
+    if (shutdown && (aborted || !(thread instanceof Worker && ((Worker)thread).scheduler() == this)))
+      throw new RejectedExecutionException("Scheduler is shut down");
+
+    // Initial priorities are above the priorities that are assigned at change points
+    workers.add(new Worker(command, ++count, depth == 0 ? 0 : depth + random.nextInt(Integer.MAX_VALUE - depth)));
+  }
+
+  /**
+   * Initiates the execution of the submitted tasks, after which only the tasks that are running may submit new tasks.
+   */
+  @Override
+  public synchronized void shutdown() {
+    if (!shutdown) {
+      shutdown = true;
+      schedule();
+    }
+  }
+
+  @Override
+  public synchronized List<Runnable> shutdownNow() {
+    shutdown = true;
+    aborted = true;
+    final ArrayList<Runnable> tasks = new ArrayList<>();
+    for (int i = 0, i$ = workers.size(); i < i$; ++i) { // [RA]
+      final Worker worker = workers.get(i);
+      if (worker.getState() == Thread.State.NEW)
+        tasks.add(worker.task);
+      else
+        worker.interrupt();
+    }
+
+    workers.clear();
+    current = null;
+    notifyAll();
+    return tasks;
+  }
+
+  @Override
+  public synchronized boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public synchronized boolean isTerminated() {
+    return shutdown && workers.isEmpty();
+  }
+
+  @Override
+  public synchronized boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (!isTerminated()) {
+      final long remaining = deadline - System.nanoTime();
+      if (remaining <= 0)
+        return false;
+
+      wait(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+    }
+
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return depth == 0 ? "DeterministicScheduler.random(" + seed + "L)" : "DeterministicScheduler.pct(" + seed + "L, " + depth + ", " + steps + ")";
+  }
+}
@@ -0,0 +1,102 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Utility functions for the creation of namespace-aware DOM documents with a {@link DocumentBuilder} that is confined to the current
+ * thread.
+ */
+final class Documents {
+  private static final ThreadLocal<DocumentBuilder> documentBuilder = new ThreadLocal<DocumentBuilder>() {
+    @Override
+    protected DocumentBuilder initialValue() {
+      final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setNamespaceAware(true);
+      try {
+        return factory.newDocumentBuilder();
+      }
+      catch (final ParserConfigurationException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  };
+
+  private static final ErrorHandler errorHandler = new ErrorHandler() {
+    @Override
+    public void warning(final SAXParseException exception) {
+    }
+
+    @Override
+    public void error(final SAXParseException exception) throws SAXException {
+      throw exception;
+    }
+
+    @Override
+    public void fatalError(final SAXParseException exception) throws SAXException {
+      throw exception;
+    }
+  };
+
+  /**
+   * Parses the provided file, and returns its document element.
+   *
+   * @param path The file to parse.
+   * @return The document element of the parsed file.
+   * @throws IOException If an I/O error has occurred.
+   * @throws SAXException If a parse error has occurred.
+   */
+  static Element parse(final Path path) throws IOException, SAXException {
+    final DocumentBuilder builder = documentBuilder.get();
+    builder.setErrorHandler(errorHandler);
+    try {
+      // The file is read as a stream, so that it may be in any file system
+      try (final InputStream in = Files.newInputStream(path)) {
+        return builder.parse(in, path.toUri().toString()).getDocumentElement();
+      }
+    }
+    finally {
+      builder.reset();
+    }
+  }
+
+  /**
+   * Returns a new empty {@link Document}.
+   *
+   * @return A new empty {@link Document}.
+   */
+  static Document newDocument() {
+    return documentBuilder.get().newDocument();
+  }
+
+  private Documents() {
+  }
+}
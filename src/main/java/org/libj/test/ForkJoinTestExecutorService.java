@@ -0,0 +1,366 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link TestExecutorService} of a {@link ForkJoinPool}, which captures the failures of recursive subtasks that are
+ * {@linkplain ForkJoinTask#fork() forked} within the pool, and not only of the top-level tasks that are submitted to it. Subtasks that
+ * extend {@link TrackedRecursiveTask} or {@link TrackedRecursiveAction} record their failures with this executor when they are thrown,
+ * even if they are never joined. Failures of parallel streams that run in the pool propagate to the top-level task that invokes them.
+ * A failure that propagates through the joins of several tasks is recorded once.
+ * <p>
+ * Failures of tracked tasks are recorded when they run on the workers of the pool, or when they were created by a task that did, even
+ * if they are run by an external thread that helps the pool, as by {@link ForkJoinPool#awaitQuiescence(long,TimeUnit)}. Top-level
+ * tasks are therefore to be submitted to this executor, rather than {@linkplain ForkJoinPool#invoke(ForkJoinTask) invoked} on the pool
+ * from an external thread, which may run the task itself, and then forks its subtasks to the
+ * {@linkplain ForkJoinPool#commonPool() common pool}.
+ * <p>
+ * The {@link Statistics} of the pool, i.e. its steal count, the high-water mark of its queued tasks, and the parallelism it achieved,
+ * are available by {@link #getStatistics()}.
+ */
+public class ForkJoinTestExecutorService extends TestExecutorService {
+  /**
+   * Statistics of the {@link ForkJoinPool} of a {@link ForkJoinTestExecutorService}. The high-water marks are sampled at the start of
+   * each {@link TrackedRecursiveTask} and {@link TrackedRecursiveAction}.
+   */
+  public static final class Statistics {
+    private final long stealCount;
+    private final long maxQueuedTaskCount;
+    private final int maxParallelism;
+    private final int parallelism;
+
+    private Statistics(final long stealCount, final long maxQueuedTaskCount, final int maxParallelism, final int parallelism) {
+      this.stealCount = stealCount;
+      this.maxQueuedTaskCount = maxQueuedTaskCount;
+      this.maxParallelism = maxParallelism;
+      this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the number of tasks that were stolen from the work queue of one worker by another.
+     *
+     * @return The number of tasks that were stolen from the work queue of one worker by another.
+     * @see ForkJoinPool#getStealCount()
+     */
+    public long getStealCount() {
+      return stealCount;
+    }
+
+    /**
+     * Returns the highest number of tasks that were queued in the pool, including submissions that were not yet started.
+     *
+     * @return The highest number of tasks that were queued in the pool.
+     */
+    public long getMaxQueuedTaskCount() {
+      return maxQueuedTaskCount;
+    }
+
+    /**
+     * Returns the highest number of workers that were running tasks concurrently.
+     *
+     * @return The highest number of workers that were running tasks concurrently.
+     */
+    public int getMaxParallelism() {
+      return maxParallelism;
+    }
+
+    /**
+     * Returns the target parallelism of the pool.
+     *
+     * @return The target parallelism of the pool.
+     * @see ForkJoinPool#getParallelism()
+     */
+    public int getParallelism() {
+      return parallelism;
+    }
+
+    @Override
+    public String toString() {
+      return "steals=" + stealCount + ", maxQueued=" + maxQueuedTaskCount + ", maxParallelism=" + maxParallelism + "/" + parallelism;
+    }
+  }
+
+  private static final class Worker extends ForkJoinWorkerThread {
+    private final ForkJoinTestExecutorService executor;
+    private int depth;
+
+    private Worker(final ForkJoinPool pool, final ForkJoinTestExecutorService executor) {
+      super(pool);
+      this.executor = executor;
+    }
+  }
+
+  private static final class Factory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+    private volatile ForkJoinTestExecutorService executor;
+
+    @Override
+    public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+      return new Worker(pool, executor);
+    }
+  }
+
+  /** The executor of the tracked task that is running on an external thread that helps to execute the tasks of the pool */
+  private static final ThreadLocal<ForkJoinTestExecutorService> external = new ThreadLocal<>();
+
+  /**
+   * Returns the {@link ForkJoinTestExecutorService} of the current thread, or {@code null} if the current thread is neither a worker
+   * of a {@link ForkJoinTestExecutorService}, nor running a tracked task of one.
+   */
+  private static ForkJoinTestExecutorService current() {
+    final Thread thread = Thread.currentThread();
+    return thread instanceof Worker ? ((Worker)thread).executor : external.get();
+  }
+
+  /**
+   * Registers the start of a tracked task of the provided executor on the current thread, and returns the context to be passed to
+   * {@link #end(Object)}.
+   */
+  private static Object begin(final ForkJoinTestExecutorService executor) {
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof Worker) {
+      final Worker worker = (Worker)thread;
+      if (worker.depth++ == 0)
+        worker.executor.sample(worker.executor.active.incrementAndGet());
+
+      return null;
+    }
+
+    // Subtasks that are created by a tracked task on an external thread inherit its executor
+    final ForkJoinTestExecutorService outer = external.get();
+    external.set(executor);
+    return outer;
+  }
+
+  private static void end(final Object context) {
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof Worker) {
+      final Worker worker = (Worker)thread;
+      if (--worker.depth == 0)
+        worker.executor.active.decrementAndGet();
+    }
+    else if (context != null) {
+      external.set((ForkJoinTestExecutorService)context);
+    }
+    else {
+      external.remove();
+    }
+  }
+
+  /**
+   * A {@link ForkJoinTask} that returns a result, and records its failure with the {@link ForkJoinTestExecutorService} in whose pool
+   * it runs. It is a substitute for {@link java.util.concurrent.RecursiveTask RecursiveTask}, whose {@code exec()} is final.
+   *
+   * @param <V> The type parameter of the result.
+   */
+  public abstract static class TrackedRecursiveTask<V> extends ForkJoinTask<V> {
+    private static final long serialVersionUID = -4213418766291848858L;
+
+    private V result;
+    private final transient ForkJoinTestExecutorService executor = current();
+
+    /**
+     * The main computation performed by this task.
+     *
+     * @return The result of the computation.
+     */
+    protected abstract V compute();
+
+    @Override
+    public final V getRawResult() {
+      return result;
+    }
+
+    @Override
+    protected final void setRawResult(final V value) {
+      result = value;
+    }
+
+    @Override
+    protected final boolean exec() {
+      final ForkJoinTestExecutorService executor = this.executor != null ? this.executor : current();
+      final Object context = begin(executor);
+      try {
+        result = compute();
+        return true;
+      }
+      catch (final Throwable t) {
+        if (executor != null)
+          executor.recordFailure(t);
+
+        throw t;
+      }
+      finally {
+        end(context);
+      }
+    }
+  }
+
+  /**
+   * A resultless {@link ForkJoinTask} that records its failure with the {@link ForkJoinTestExecutorService} in whose pool it runs. It
+   * is a substitute for {@link java.util.concurrent.RecursiveAction RecursiveAction}, whose {@code exec()} is final.
+   */
+  public abstract static class TrackedRecursiveAction extends ForkJoinTask<Void> {
+    private static final long serialVersionUID = 4106564128512938893L;
+
+    private final transient ForkJoinTestExecutorService executor = current();
+
+    /**
+     * The main computation performed by this task.
+     */
+    protected abstract void compute();
+
+    @Override
+    public final Void getRawResult() {
+      return null;
+    }
+
+    @Override
+    protected final void setRawResult(final Void mustBeNull) {
+    }
+
+    @Override
+    protected final boolean exec() {
+      final ForkJoinTestExecutorService executor = this.executor != null ? this.executor : current();
+      final Object context = begin(executor);
+      try {
+        compute();
+        return true;
+      }
+      catch (final Throwable t) {
+        if (executor != null)
+          executor.recordFailure(t);
+
+        throw t;
+      }
+      finally {
+        end(context);
+      }
+    }
+  }
+
+  private final ForkJoinPool pool;
+  private final Set<Throwable> recorded = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final AtomicInteger active = new AtomicInteger();
+  private final AtomicInteger maxParallelism = new AtomicInteger();
+  private final AtomicLong maxQueuedTaskCount = new AtomicLong();
+
+  /**
+   * Creates a new {@link ForkJoinTestExecutorService} of a new {@link ForkJoinPool} with parallelism equal to the number of available
+   * processors.
+   */
+  public ForkJoinTestExecutorService() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a new {@link ForkJoinTestExecutorService} of a new {@link ForkJoinPool} with the provided {@code parallelism}.
+   *
+   * @param parallelism The parallelism level of the {@link ForkJoinPool}.
+   * @throws IllegalArgumentException If {@code parallelism} is not positive, or is greater than the limit of the implementation.
+   */
+  public ForkJoinTestExecutorService(final int parallelism) {
+    this(new Factory(), parallelism);
+  }
+
+  private ForkJoinTestExecutorService(final Factory factory, final int parallelism) {
+    super(new ForkJoinPool(parallelism, factory, null, false));
+    this.pool = (ForkJoinPool)target;
+    // Workers are created lazily, upon the first submission
+    factory.executor = this;
+  }
+
+  @Override
+  public ForkJoinTestExecutorService withFailFast() {
+    super.withFailFast();
+    return this;
+  }
+
+  @Override
+  public ForkJoinTestExecutorService withWatchdog(final long stallTimeout, final TimeUnit unit) {
+    super.withWatchdog(stallTimeout, unit);
+    return this;
+  }
+
+  @Override
+  public ForkJoinTestExecutorService withMetrics() {
+    super.withMetrics();
+    return this;
+  }
+
+  /**
+   * Returns the {@link ForkJoinPool} of this executor.
+   *
+   * @return The {@link ForkJoinPool} of this executor.
+   */
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  /**
+   * Returns the {@link Statistics} of the {@link ForkJoinPool} of this executor.
+   *
+   * @return The {@link Statistics} of the {@link ForkJoinPool} of this executor.
+   */
+  public Statistics getStatistics() {
+    sample(pool.getActiveThreadCount());
+    return new Statistics(pool.getStealCount(), maxQueuedTaskCount.get(), maxParallelism.get(), pool.getParallelism());
+  }
+
+  private void sample(final int parallelism) {
+    int prev;
+    do
+      prev = maxParallelism.get();
+    while (parallelism > prev && !maxParallelism.compareAndSet(prev, parallelism));
+
+    final long queued = pool.getQueuedTaskCount() + pool.getQueuedSubmissionCount();
+    long max;
+    do
+      max = maxQueuedTaskCount.get();
+    while (queued > max && !maxQueuedTaskCount.compareAndSet(max, queued));
+  }
+
+  /**
+   * Records the provided {@link Throwable} as a failure, unless it, or a throwable in its chain of causes, has already been recorded.
+   * A {@link ForkJoinTask} that is joined in a thread other than the one in which it failed rethrows a copy of its exception, with the
+   * original as its cause.
+   */
+  @Override
+  void recordFailure(final Throwable t) {
+    synchronized (recorded) {
+      final boolean seen = recorded.contains(t);
+      recorded.add(t);
+      if (seen)
+        return;
+
+      for (Throwable cause = t.getCause(); cause != null; cause = cause.getCause()) // [N]
+        if (recorded.contains(cause))
+          return;
+    }
+
+    super.recordFailure(t);
+  }
+}
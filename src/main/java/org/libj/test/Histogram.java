@@ -0,0 +1,171 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative {@code long} values, with log-linear buckets in the manner of
+ * <a href="http://hdrhistogram.org/">HdrHistogram</a>: values below 128 are counted exactly, and larger values are counted in buckets
+ * whose width is at most 1/64 of their magnitude, i.e. with a relative precision of better than 1.6%.
+ * <p>
+ * Recording a value is wait-free (apart from the maximum and minimum), and does not allocate. Queries may be performed concurrently
+ * with recording, in which case they reflect an approximate snapshot.
+ */
+public final class Histogram {
+  private static final int SUB_BUCKETS = 128;
+  private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+  private static final int SUB_BUCKET_BITS = 7;
+  private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+  static int indexOf(final long value) {
+    if (value < SUB_BUCKETS)
+      return (int)value;
+
+    // The shift that brings value into [HALF_SUB_BUCKETS, SUB_BUCKETS)
+    final int shift = Long.SIZE - SUB_BUCKET_BITS - Long.numberOfLeadingZeros(value);
+    return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int)(value >>> shift) - HALF_SUB_BUCKETS;
+  }
+
+  static long highestValueAt(final int index) {
+    if (index < SUB_BUCKETS)
+      return index;
+
+    final int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+    final long subBucket = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * Records the provided value.
+   *
+   * @param value The value to record.
+   * @throws IllegalArgumentException If {@code value} is negative.
+   */
+  public void record(final long value) {
+    if (value < 0)
+      throw new IllegalArgumentException("value (" + value + ") is negative");
+
+    counts.incrementAndGet(indexOf(value));
+    count.increment();
+    sum.add(value);
+    long prev;
+    do
+      prev = max.get();
+    while (value > prev && !max.compareAndSet(prev, value));
+
+    do
+      prev = min.get();
+    while (value < prev && !min.compareAndSet(prev, value));
+  }
+
+  /**
+   * Returns the number of recorded values.
+   *
+   * @return The number of recorded values.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the maximum recorded value, or {@code 0} if no values have been recorded.
+   *
+   * @return The maximum recorded value, or {@code 0} if no values have been recorded.
+   */
+  public long getMax() {
+    final long max = this.max.get();
+    return max == Long.MIN_VALUE ? 0 : max;
+  }
+
+  /**
+   * Returns the minimum recorded value, or {@code 0} if no values have been recorded.
+   *
+   * @return The minimum recorded value, or {@code 0} if no values have been recorded.
+   */
+  public long getMin() {
+    final long min = this.min.get();
+    return min == Long.MAX_VALUE ? 0 : min;
+  }
+
+  /**
+   * Returns the arithmetic mean of the recorded values, or {@code 0} if no values have been recorded.
+   *
+   * @return The arithmetic mean of the recorded values, or {@code 0} if no values have been recorded.
+   */
+  public double getMean() {
+    final long count = this.count.sum();
+    return count == 0 ? 0 : (double)sum.sum() / count;
+  }
+
+  /**
+   * Returns the value at the provided {@code percentile}, i.e. the highest value that is equivalent (within the precision of this
+   * histogram) to the recorded value below which {@code percentile} percent of the recorded values fall, or {@code 0} if no values
+   * have been recorded. The returned value never exceeds {@link #getMax()}.
+   *
+   * @param percentile The percentile, between {@code 0} and {@code 100}.
+   * @return The value at the provided {@code percentile}.
+   * @throws IllegalArgumentException If {@code percentile} is not between {@code 0} and {@code 100}.
+   */
+  public long getValueAtPercentile(final double percentile) {
+    if (!(0 <= percentile && percentile <= 100))
+      throw new IllegalArgumentException("percentile (" + percentile + ") must be between 0 and 100");
+
+    long total = 0;
+    for (int i = 0; i < BUCKETS; ++i) // [N]
+      total += counts.get(i);
+
+    if (total == 0)
+      return 0;
+
+    final long rank = Math.max(1, (long)Math.ceil(percentile / 100 * total));
+    long cumulative = 0;
+    for (int i = 0; i < BUCKETS; ++i) { // [N]
+      cumulative += counts.get(i);
+      if (cumulative >= rank)
+        return Math.min(highestValueAt(i), getMax());
+    }
+
+    return getMax();
+  }
+
+  /**
+   * Returns a summary of this histogram, with its values interpreted as durations in the provided {@link TimeUnit}, and reported in
+   * microseconds.
+   *
+   * @param unit The {@link TimeUnit} of the recorded values.
+   * @return A summary of this histogram.
+   */
+  public String toString(final TimeUnit unit) {
+    final double scale = unit.toNanos(1) / 1000d;
+    return String.format("count=%d, mean=%.1fus, p50=%.1fus, p99=%.1fus, p999=%.1fus, max=%.1fus", getCount(), getMean() * scale, getValueAtPercentile(50) * scale, getValueAtPercentile(99) * scale, getValueAtPercentile(99.9) * scale, getMax() * scale);
+  }
+
+  @Override
+  public String toString() {
+    return "count=" + getCount() + ", mean=" + getMean() + ", p50=" + getValueAtPercentile(50) + ", p99=" + getValueAtPercentile(99) + ", p999=" + getValueAtPercentile(99.9) + ", max=" + getMax();
+  }
+}
@@ -18,36 +18,36 @@ package org.libj.test;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.jar.JarEntry;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Helpful utility functions for JUnit tests.
  */
 public class JUnitUtil {
-  private static final URL[] emptyResources = {};
-
-  private static URL[] getResources(final String path, final Pattern pattern, final ClassLoader classLoader, final BufferedReader reader, final int depth) throws IOException {
-    final String fileName = reader.readLine();
-    if (fileName == null)
-      return new URL[depth];
-
-    final String name = path + fileName;
-    if (pattern != null && !pattern.matcher(name).matches())
-      return getResources(path, pattern, classLoader, reader, depth);
-
-    final URL[] urls = getResources(path, pattern, classLoader, reader, depth + 1);
-    urls[depth] = classLoader.getResource(name);
-    return urls;
-  }
-
   /**
-   * Finds the resources prefixed by the given {@code path} in the specified {@link ClassLoader}.
+   * Finds the resources prefixed by the given {@code path} in the specified {@link ClassLoader}, i.e. the files and directories of
+   * the directory {@code path} in the root of the classpath from which the {@link ClassLoader} loads it, as by
+   * {@link ResourceIndex#list(String,Pattern)}. The listing is served from the {@link ResourceIndex} of the {@link ClassLoader}, which
+   * does not reflect the resources that are created after it is built until it is {@linkplain ResourceIndex#invalidate(ClassLoader)
+   * invalidated}.
    *
    * @param path The path prefix of the resources to find.
    * @param regex The regular expression pattern to match resource names.
@@ -57,12 +57,8 @@ public class JUnitUtil {
    * @throws NullPointerException If {@code path} is null.
    */
   public static URL[] getResources(final String path, final String regex, final ClassLoader classLoader) throws IOException {
-    final InputStream in = classLoader.getResourceAsStream(path);
-    if (in == null)
-      return emptyResources;
-
-    try (final BufferedReader reader = new BufferedReader(new InputStreamReader(in))) {
-      return getResources(path.isEmpty() || path.endsWith("/") ? path : path + "/", regex == null ? null : Pattern.compile(regex), classLoader, reader, 0);
+    try (final Stream<Resource> resources = streamResources(path, regex, classLoader)) {
+      return resources.map(Resource::getURL).toArray(URL[]::new);
     }
   }
 
@@ -102,23 +98,220 @@ public class JUnitUtil {
   }
 
   /**
-   * Sorts the provided array of file {@link URL}s by the their byte size, ascending.
+   * Returns a lazy {@link Stream} of the resources prefixed by the given {@code path} in the specified {@link ClassLoader}, i.e. the
+   * files and directories of the directory {@code path} in the root of the classpath from which the {@link ClassLoader} loads it.
+   * Unlike {@link #getResources(String,String,ClassLoader)}, the {@link Resource}s are created as the stream is consumed, and each
+   * {@link Resource} provides access to its content without a copy on the heap. The stream is to be closed after use, which releases
+   * the listing of a directory that is not in a root of the classpath, as read from {@link ClassLoader#getResourceAsStream(String)}.
+   * Entries of such a listing that the {@link ClassLoader} does not resolve by {@link ClassLoader#getResource(String)} are skipped.
    *
-   * @param resources The file {@link URL}s to sort.
-   * @return The provided array of file {@link URL}s, sorted by the their byte size, ascending.
+   * @param path The path prefix of the resources to find.
+   * @param regex The regular expression pattern to match resource names.
+   * @param classLoader The {@link ClassLoader} in which to find the resources.
+   * @return A lazy {@link Stream} of the resources prefixed by the given {@code path} in the specified {@link ClassLoader}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code path} is null.
    */
-  public static URL[] sortBySize(final URL ... resources) {
-    Arrays.sort(resources, (final URL o1, final URL o2) -> {
+  public static Stream<Resource> streamResources(final String path, final String regex, final ClassLoader classLoader) throws IOException {
+    Objects.requireNonNull(path);
+    final Pattern pattern = regex == null ? null : Pattern.compile(regex);
+    final Stream<Resource> resources = ResourceIndex.of(classLoader).children(path, pattern);
+    if (resources != null)
+      return resources;
+
+    final InputStream in = classLoader.getResourceAsStream(path);
+    if (in == null)
+      return Stream.empty();
+
+    final String prefix = path.isEmpty() || path.endsWith("/") ? path : path + "/";
+    final BufferedReader reader = new BufferedReader(new InputStreamReader(in));
+    // Entries of the listing that the ClassLoader does not resolve are skipped
+    return reader.lines().map(fileName -> prefix + fileName).filter(name -> pattern == null || pattern.matcher(name).matches()).map(name -> {
+      final URL url = classLoader.getResource(name);
+      return url == null ? null : Resource.of(isDirectory(classLoader, name, url) ? name + "/" : name, url);
+    }).filter(Objects::nonNull).onClose(() -> {
       try {
-        return Long.compare(new File(o1.toURI()).length(), new File(o2.toURI()).length());
+        reader.close();
       }
-      catch (final URISyntaxException e) {
-        throw new RuntimeException(e);
+      catch (final IOException e) {
+        throw new UncheckedIOException(e);
       }
     });
+  }
+
+  /**
+   * Returns whether the resource with the provided {@code name} at the provided {@link URL} of the provided {@link ClassLoader} is a
+   * directory, which is the case for a directory of the file system, or for a resource whose name with a trailing {@code '/'} is
+   * resolved by the {@link ClassLoader}, as an entry of a directory in a JAR file.
+   */
+  private static boolean isDirectory(final ClassLoader classLoader, final String name, final URL url) {
+    if (!"file".equals(url.getProtocol()))
+      return classLoader.getResource(name + "/") != null;
+
+    try {
+      return Files.isDirectory(Paths.get(url.toURI()));
+    }
+    catch (final URISyntaxException | IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns a lazy {@link Stream} of the resources prefixed by the given {@code path} in the specified {@link ClassLoader}.
+   *
+   * @param path The path prefix of the resources to find.
+   * @param classLoader The {@link ClassLoader} in which to find the resources.
+   * @return A lazy {@link Stream} of the resources prefixed by the given {@code path} in the specified {@link ClassLoader}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code path} is null.
+   * @see #streamResources(String,String,ClassLoader)
+   */
+  public static Stream<Resource> streamResources(final String path, final ClassLoader classLoader) throws IOException {
+    return streamResources(path, null, classLoader);
+  }
+
+  /**
+   * Returns a lazy {@link Stream} of the resources prefixed by the given {@code path} in the system class loader.
+   *
+   * @param path The path prefix of the resources to find.
+   * @param regex The regular expression pattern to match resource names.
+   * @return A lazy {@link Stream} of the resources prefixed by the given {@code path} in the system class loader.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code path} is null.
+   * @see #streamResources(String,String,ClassLoader)
+   */
+  public static Stream<Resource> streamResources(final String path, final String regex) throws IOException {
+    return streamResources(path, regex, ClassLoader.getSystemClassLoader());
+  }
+
+  /**
+   * Returns a lazy {@link Stream} of the resources prefixed by the given {@code path} in the system class loader.
+   *
+   * @param path The path prefix of the resources to find.
+   * @return A lazy {@link Stream} of the resources prefixed by the given {@code path} in the system class loader.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code path} is null.
+   * @see #streamResources(String,String,ClassLoader)
+   */
+  public static Stream<Resource> streamResources(final String path) throws IOException {
+    return streamResources(path, null, ClassLoader.getSystemClassLoader());
+  }
+
+  /**
+   * Returns the size in bytes of the resource at the provided {@link URL}: the length of a file, the uncompressed size of a JAR entry,
+   * or the content length of any other resource. A resource that does not exist, or whose size is not known, has a size of {@code 0}.
+   */
+  private static long sizeOf(final URL resource) {
+    try {
+      if ("file".equals(resource.getProtocol()))
+        return new File(resource.toURI()).length();
+
+      final URLConnection connection = resource.openConnection();
+      if (connection instanceof JarURLConnection) {
+        final JarEntry entry = ((JarURLConnection)connection).getJarEntry();
+        return entry == null ? 0 : Math.max(0, entry.getSize());
+      }
+
+      return Math.max(0, connection.getContentLengthLong());
+    }
+    catch (final FileNotFoundException e) {
+      return 0;
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    catch (final URISyntaxException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  /**
+   * Returns the sizes of the provided resources, each of which is determined once, in parallel.
+   */
+  private static long[] sizesOf(final URL[] resources) {
+    final long[] sizes = new long[resources.length];
+    IntStream.range(0, resources.length).parallel().forEach(i -> sizes[i] = sizeOf(resources[i]));
+    return sizes;
+  }
+
+  /**
+   * Returns the indexes of the provided {@code sizes}, in the order of the sizes, ascending or descending. The sort is stable.
+   */
+  private static Integer[] sortedIndexes(final long[] sizes, final boolean descending) {
+    final Integer[] indexes = new Integer[sizes.length];
+    for (int i = 0; i < indexes.length; ++i) // [A]
+      indexes[i] = i;
+
+    if (descending)
+      Arrays.sort(indexes, (final Integer o1, final Integer o2) -> Long.compare(sizes[o2], sizes[o1]));
+    else
+      Arrays.sort(indexes, (final Integer o1, final Integer o2) -> Long.compare(sizes[o1], sizes[o2]));
+
+    return indexes;
+  }
+
+  /**
+   * Sorts the provided array of {@link URL}s by the their byte size, ascending. The size of each resource is determined once, in
+   * parallel: the length of a file, or the uncompressed size of a JAR entry.
+   *
+   * @param resources The {@link URL}s to sort.
+   * @return The provided array of {@link URL}s, sorted by the their byte size, ascending.
+   * @throws UncheckedIOException If an I/O error has occurred.
+   */
+  public static URL[] sortBySize(final URL ... resources) {
+    final Integer[] indexes = sortedIndexes(sizesOf(resources), false);
+    final URL[] copy = resources.clone();
+    for (int i = 0; i < indexes.length; ++i) // [A]
+      resources[i] = copy[indexes[i]];
+
     return resources;
   }
 
+  /**
+   * Partitions the provided {@link URL}s into {@code n} batches of about equal total byte size, so that parallel workers that each
+   * process a batch finish at about the same time. Resources are assigned in the order of their size, descending, each to the batch
+   * with the least total size so far (i.e. the Longest Processing Time first rule), whose total is at most 4/3 of the optimum. The size
+   * of each resource is determined once, in parallel, as by {@link #sortBySize(URL...)}.
+   *
+   * @param n The number of batches.
+   * @param resources The {@link URL}s to partition.
+   * @return An array of {@code n} batches of the provided {@link URL}s, each in the order of size, descending. Batches are empty if
+   *         {@code n} is greater than the number of resources.
+   * @throws IllegalArgumentException If {@code n} is not positive.
+   * @throws UncheckedIOException If an I/O error has occurred.
+   */
+  public static URL[][] partitionBySize(final int n, final URL ... resources) {
+    if (n <= 0)
+      throw new IllegalArgumentException("n (" + n + ") must be positive");
+
+    final long[] sizes = sizesOf(resources);
+    final Integer[] indexes = sortedIndexes(sizes, true);
+    final long[] totals = new long[n];
+    final ArrayList<ArrayList<URL>> batches = new ArrayList<>(n);
+    final PriorityQueue<Integer> lightest = new PriorityQueue<>(n, (final Integer o1, final Integer o2) -> {
+      final int c = Long.compare(totals[o1], totals[o2]);
+      return c != 0 ? c : Integer.compare(o1, o2);
+    });
+
+    for (int i = 0; i < n; ++i) { // [N]
+      batches.add(new ArrayList<>());
+      lightest.add(i);
+    }
+
+    for (final int index : indexes) { // [A]
+      final int batch = lightest.poll();
+      batches.get(batch).add(resources[index]);
+      totals[batch] += sizes[index];
+      lightest.add(batch);
+    }
+
+    final URL[][] partitions = new URL[n][];
+    for (int i = 0; i < n; ++i) // [N]
+      partitions[i] = batches.get(i).toArray(new URL[batches.get(i).size()]);
+
+    return partitions;
+  }
+
   private JUnitUtil() {
   }
 }
\ No newline at end of file
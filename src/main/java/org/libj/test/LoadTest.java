@@ -0,0 +1,344 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A builder of micro-load tests, which drive a {@link Callable} on a {@link TestExecutorService} at a target concurrency or target
+ * rate, for a given duration or number of iterations, and assert the resulting latency and throughput.
+ * <p>
+ * By default, the load is closed-loop: each of the {@linkplain #concurrency(int) concurrent} workers invokes the task again as soon
+ * as the previous invocation returns, and latency is the service time of each invocation. If a {@linkplain #rate(double) rate} is
+ * specified, the load is open-loop: invocations are scheduled at fixed intervals irrespective of the progress of the workers, and
+ * latency is measured from the time at which each invocation was scheduled to start, rather than from the time it actually started.
+ * This corrects for coordinated omission, whereby a stalled system would otherwise delay the invocations that would have observed the
+ * stall.
+ * <p>
+ * A failure of the task fails the load test immediately, and is propagated as by
+ * {@link TestExecutorService#awaitTermination(long,TimeUnit)}.
+ *
+ * <pre>
+ * LoadTest.of(() -&gt; service.call())
+ *   .concurrency(8)
+ *   .rate(50000)
+ *   .warmup(1, TimeUnit.SECONDS)
+ *   .duration(5, TimeUnit.SECONDS)
+ *   .run()
+ *   .assertPercentileBelow(99, 5, TimeUnit.MILLISECONDS)
+ *   .assertThroughputAtLeast(50000);
+ * </pre>
+ */
+public final class LoadTest {
+  /**
+   * The result of a load test, with assertions of its latency and throughput.
+   */
+  public static final class Result {
+    private final Histogram latency;
+    private final Histogram serviceTime;
+    private final long count;
+    private final long elapsed;
+
+    private Result(final Histogram latency, final Histogram serviceTime, final long count, final long elapsed) {
+      this.latency = latency;
+      this.serviceTime = serviceTime;
+      this.count = count;
+      this.elapsed = elapsed;
+    }
+
+    /**
+     * Returns the {@link Histogram} of the latencies of the invocations in nanoseconds, which in open-loop mode are measured from the
+     * time at which each invocation was scheduled to start.
+     *
+     * @return The {@link Histogram} of the latencies of the invocations in nanoseconds.
+     */
+    public Histogram getLatency() {
+      return latency;
+    }
+
+    /**
+     * Returns the {@link Histogram} of the service times of the invocations in nanoseconds, which are measured from the time at which
+     * each invocation actually started.
+     *
+     * @return The {@link Histogram} of the service times of the invocations in nanoseconds.
+     */
+    public Histogram getServiceTime() {
+      return serviceTime;
+    }
+
+    /**
+     * Returns the number of measured invocations.
+     *
+     * @return The number of measured invocations.
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * Returns the number of invocations per second over the measured phase of the load test.
+     *
+     * @return The number of invocations per second over the measured phase of the load test.
+     */
+    public double getThroughput() {
+      return elapsed <= 0 ? 0 : count * 1e9 / elapsed;
+    }
+
+    /**
+     * Assert that the latency at the provided {@code percentile} is less than the provided {@code value}.
+     *
+     * @param percentile The percentile, between {@code 0} and {@code 100}.
+     * @param value The exclusive upper bound of the latency.
+     * @param unit The {@link TimeUnit} of {@code value}.
+     * @return This {@link Result} instance.
+     * @throws AssertionError If the latency at the provided {@code percentile} is not less than the provided {@code value}.
+     */
+    public Result assertPercentileBelow(final double percentile, final long value, final TimeUnit unit) {
+      final long actual = latency.getValueAtPercentile(percentile);
+      if (actual >= unit.toNanos(value))
+        fail("p" + percentile + " latency " + actual + "ns is not below " + value + " " + unit + ": " + this);
+
+      return this;
+    }
+
+    /**
+     * Assert that the throughput is at least the provided number of invocations per second.
+     *
+     * @param opsPerSecond The inclusive lower bound of the throughput, in invocations per second.
+     * @return This {@link Result} instance.
+     * @throws AssertionError If the throughput is less than the provided number of invocations per second.
+     */
+    public Result assertThroughputAtLeast(final double opsPerSecond) {
+      final double actual = getThroughput();
+      if (actual < opsPerSecond)
+        fail("Throughput " + String.format("%.1f", actual) + "/s is less than " + opsPerSecond + "/s: " + this);
+
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("count=%d, throughput=%.1f/s, latency={%s}, service={%s}", count, getThroughput(), latency.toString(TimeUnit.NANOSECONDS), serviceTime.toString(TimeUnit.NANOSECONDS));
+    }
+  }
+
+  /**
+   * Creates a new {@link LoadTest} of the provided {@code task}.
+   *
+   * @param task The task to invoke.
+   * @return A new {@link LoadTest} of the provided {@code task}.
+   * @throws NullPointerException If {@code task} is null.
+   */
+  public static LoadTest of(final Callable<?> task) {
+    return new LoadTest(Objects.requireNonNull(task));
+  }
+
+  private final Callable<?> task;
+  private int concurrency = 1;
+  private long interval;
+  private long durationNanos = -1;
+  private long iterations = -1;
+  private long warmupNanos;
+  private long warmupIterations;
+
+  private LoadTest(final Callable<?> task) {
+    this.task = task;
+  }
+
+  /**
+   * Sets the number of concurrent workers that invoke the task. Default: {@code 1}.
+   *
+   * @param concurrency The number of concurrent workers.
+   * @return This {@link LoadTest} instance.
+   * @throws IllegalArgumentException If {@code concurrency} is not positive.
+   */
+  public LoadTest concurrency(final int concurrency) {
+    if (concurrency <= 0)
+      throw new IllegalArgumentException("concurrency (" + concurrency + ") must be positive");
+
+    this.concurrency = concurrency;
+    return this;
+  }
+
+  /**
+   * Sets the target rate of invocations per second across all workers, which puts this load test in open-loop mode.
+   *
+   * @param opsPerSecond The target rate of invocations per second.
+   * @return This {@link LoadTest} instance.
+   * @throws IllegalArgumentException If {@code opsPerSecond} is not positive.
+   */
+  public LoadTest rate(final double opsPerSecond) {
+    if (!(opsPerSecond > 0))
+      throw new IllegalArgumentException("opsPerSecond (" + opsPerSecond + ") must be positive");
+
+    this.interval = Math.max(1, (long)(1e9 / opsPerSecond));
+    return this;
+  }
+
+  /**
+   * Sets the duration of the measured phase of this load test.
+   *
+   * @param duration The duration.
+   * @param unit The {@link TimeUnit} of {@code duration}.
+   * @return This {@link LoadTest} instance.
+   * @throws IllegalArgumentException If {@code duration} is not positive.
+   */
+  public LoadTest duration(final long duration, final TimeUnit unit) {
+    if (duration <= 0)
+      throw new IllegalArgumentException("duration (" + duration + ") must be positive");
+
+    this.durationNanos = unit.toNanos(duration);
+    return this;
+  }
+
+  /**
+   * Sets the number of invocations of the measured phase of this load test.
+   *
+   * @param iterations The number of invocations.
+   * @return This {@link LoadTest} instance.
+   * @throws IllegalArgumentException If {@code iterations} is not positive.
+   */
+  public LoadTest iterations(final long iterations) {
+    if (iterations <= 0)
+      throw new IllegalArgumentException("iterations (" + iterations + ") must be positive");
+
+    this.iterations = iterations;
+    return this;
+  }
+
+  /**
+   * Sets the duration of the warmup phase of this load test, whose invocations are not measured. Default: {@code 0}.
+   *
+   * @param duration The duration.
+   * @param unit The {@link TimeUnit} of {@code duration}.
+   * @return This {@link LoadTest} instance.
+   * @throws IllegalArgumentException If {@code duration} is negative.
+   */
+  public LoadTest warmup(final long duration, final TimeUnit unit) {
+    if (duration < 0)
+      throw new IllegalArgumentException("duration (" + duration + ") is negative");
+
+    this.warmupNanos = unit.toNanos(duration);
+    return this;
+  }
+
+  /**
+   * Sets the number of invocations of the warmup phase of this load test, whose invocations are not measured. Default: {@code 0}.
+   *
+   * @param iterations The number of invocations.
+   * @return This {@link LoadTest} instance.
+   * @throws IllegalArgumentException If {@code iterations} is negative.
+   */
+  public LoadTest warmupIterations(final long iterations) {
+    if (iterations < 0)
+      throw new IllegalArgumentException("iterations (" + iterations + ") is negative");
+
+    this.warmupIterations = iterations;
+    return this;
+  }
+
+  /**
+   * Runs this load test, first for the warmup phase (if any), and then for the measured phase, which ends when either its duration
+   * has elapsed or its number of iterations is reached, whichever happens first.
+   *
+   * @return The {@link Result} of the measured phase.
+   * @throws IllegalStateException If neither the duration nor the number of iterations of the measured phase is set.
+   * @throws InterruptedException If the current thread is interrupted, or if the task has failed with a checked exception, as by
+   *           {@link TestExecutorService#awaitTermination(long,TimeUnit)}.
+   */
+  public Result run() throws InterruptedException {
+    if (durationNanos < 0 && iterations < 0)
+      throw new IllegalStateException("Either duration or iterations must be set");
+
+    if (warmupNanos > 0 || warmupIterations > 0)
+      run(warmupNanos > 0 ? warmupNanos : Long.MAX_VALUE, warmupIterations > 0 ? warmupIterations : Long.MAX_VALUE, null, null, null);
+
+    final Histogram latency = new Histogram();
+    final Histogram serviceTime = new Histogram();
+    final LongAdder count = new LongAdder();
+    final long elapsed = run(durationNanos >= 0 ? durationNanos : Long.MAX_VALUE, iterations >= 0 ? iterations : Long.MAX_VALUE, latency, serviceTime, count);
+    return new Result(latency, serviceTime, count.sum(), elapsed);
+  }
+
+  /**
+   * Runs a phase of this load test, and returns its elapsed time in nanoseconds.
+   */
+  private long run(final long nanos, final long iterations, final Histogram latency, final Histogram serviceTime, final LongAdder count) throws InterruptedException {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(concurrency)).withFailFast();
+    final AtomicLong sequence = new AtomicLong();
+    final AtomicLong elapsed = new AtomicLong();
+    final boolean timed = nanos != Long.MAX_VALUE;
+    final long start = System.nanoTime();
+    final long deadline = start + nanos;
+    try {
+      for (int i = 0; i < concurrency && executor.getFailure() == null; ++i) { // [N]
+        executor.submit(() -> {
+          long ended = start;
+          for (long n; (n = sequence.getAndIncrement()) < iterations && !Thread.currentThread().isInterrupted();) { // [N]
+            final long intended;
+            if (interval > 0) {
+              intended = start + n * interval;
+              if (timed && intended - deadline >= 0)
+                break;
+
+              for (long wait; (wait = intended - System.nanoTime()) > 0;) // [N]
+                LockSupport.parkNanos(wait);
+            }
+            else {
+              intended = System.nanoTime();
+              if (timed && intended - deadline >= 0)
+                break;
+            }
+
+            final long started = System.nanoTime();
+            task.call();
+            ended = System.nanoTime();
+            if (count != null) {
+              serviceTime.record(ended - started);
+              latency.record(ended - (interval > 0 ? intended : started));
+              count.increment();
+            }
+          }
+
+          // System.nanoTime() is only meaningful as a difference, and may be negative
+          elapsed.accumulateAndGet(ended - start, Math::max);
+          return null;
+        });
+      }
+    }
+    catch (final RejectedExecutionException e) {
+      // A worker has failed before all were submitted, and the failure is thrown by awaitTermination()
+      if (executor.getFailure() == null)
+        throw e;
+    }
+    finally {
+      executor.shutdown();
+    }
+
+    executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    return elapsed.get();
+  }
+}
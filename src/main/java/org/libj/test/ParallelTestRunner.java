@@ -0,0 +1,334 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.Statement;
+
+/**
+ * A {@link BlockJUnit4ClassRunner} over a {@link DeclarativeOrderTestClass} that runs the test methods of a class concurrently on a
+ * pool of {@link Parallelism#value()} threads (the number of available processors by default). Each method is run as by
+ * {@link BlockJUnit4ClassRunner}, i.e. on its own instance of the test class, and surrounded by the {@link org.junit.Before} and
+ * {@link org.junit.After} methods. The {@link org.junit.BeforeClass} and {@link org.junit.AfterClass} methods are run once, before and
+ * after all test methods.
+ * <p>
+ * Methods that depend on the order of their declaration are to be grouped into a chain with {@link Chain}: the methods of a chain are
+ * run serially, in the order of their declaration, while the chain as a whole runs concurrently with the other methods and chains.
+ * <p>
+ * The events of the {@link RunNotifier} are serialized, so that {@link RunListener}s observe each event in isolation, including those
+ * that are annotated with {@link RunListener.ThreadSafe}, which JUnit does not synchronize. A {@linkplain RunNotifier#pleaseStop()
+ * request to stop} cancels the methods that have not yet started, and interrupts those that are running. The children of this runner
+ * are left only once all of its threads have terminated, such that no event of a method is fired after the
+ * {@link org.junit.AfterClass} methods.
+ *
+ * <pre>
+ * &#64;RunWith(ParallelTestRunner.class)
+ * &#64;ParallelTestRunner.Parallelism(8)
+ * public class ServiceTest {
+ *   &#64;Test
+ *   &#64;ParallelTestRunner.Chain("account")
+ *   public void testCreate() { ... }
+ *
+ *   &#64;Test
+ *   &#64;ParallelTestRunner.Chain("account")
+ *   public void testDelete() { ... }
+ *
+ *   &#64;Test
+ *   public void testIndependent() { ... }
+ * }
+ * </pre>
+ */
+public class ParallelTestRunner extends BlockJUnit4ClassRunner {
+  /**
+   * Groups the annotated test method into the chain of the given name, the methods of which are run serially, in the order of their
+   * declaration.
+   */
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(ElementType.METHOD)
+  public @interface Chain {
+    /**
+     * Returns the name of the chain.
+     *
+     * @return The name of the chain.
+     */
+    String value();
+  }
+
+  /**
+   * Specifies the number of threads on which the test methods of the annotated class are run.
+   */
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(ElementType.TYPE)
+  public @interface Parallelism {
+    /**
+     * Returns the number of threads on which the test methods are run.
+     *
+     * @return The number of threads on which the test methods are run.
+     */
+    int value();
+  }
+
+  /**
+   * A {@link RunNotifier} that serializes the events of the {@link RunNotifier} to which it delegates.
+   */
+  private static final class SerialRunNotifier extends RunNotifier {
+    private final RunNotifier target;
+
+    private SerialRunNotifier(final RunNotifier target) {
+      this.target = target;
+    }
+
+    @Override
+    public void addListener(final RunListener listener) {
+      target.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(final RunListener listener) {
+      target.removeListener(listener);
+    }
+
+    @Override
+    public void addFirstListener(final RunListener listener) {
+      target.addFirstListener(listener);
+    }
+
+    @Override
+    public synchronized void fireTestRunStarted(final Description description) {
+      target.fireTestRunStarted(description);
+    }
+
+    @Override
+    public synchronized void fireTestRunFinished(final Result result) {
+      target.fireTestRunFinished(result);
+    }
+
+    @Override
+    public synchronized void fireTestSuiteStarted(final Description description) {
+      target.fireTestSuiteStarted(description);
+    }
+
+    @Override
+    public synchronized void fireTestSuiteFinished(final Description description) {
+      target.fireTestSuiteFinished(description);
+    }
+
+    @Override
+    public synchronized void fireTestStarted(final Description description) {
+      target.fireTestStarted(description);
+    }
+
+    @Override
+    public synchronized void fireTestFailure(final Failure failure) {
+      target.fireTestFailure(failure);
+    }
+
+    @Override
+    public synchronized void fireTestAssumptionFailed(final Failure failure) {
+      target.fireTestAssumptionFailed(failure);
+    }
+
+    @Override
+    public synchronized void fireTestIgnored(final Description description) {
+      target.fireTestIgnored(description);
+    }
+
+    @Override
+    public synchronized void fireTestFinished(final Description description) {
+      target.fireTestFinished(description);
+    }
+
+    @Override
+    public void pleaseStop() {
+      target.pleaseStop();
+    }
+  }
+
+  private final int parallelism;
+
+  /**
+   * Creates a new {@link ParallelTestRunner} that runs the test methods of the provided class concurrently.
+   *
+   * @param testClass The test class.
+   * @throws InitializationError If the test class is malformed, or if its {@link Parallelism} or {@link Chain} annotations are
+   *           invalid.
+   */
+  public ParallelTestRunner(final Class<?> testClass) throws InitializationError {
+    super(new DeclarativeOrderTestClass(testClass));
+    final Parallelism annotation = testClass.getAnnotation(Parallelism.class);
+    this.parallelism = annotation != null ? annotation.value() : Runtime.getRuntime().availableProcessors();
+  }
+
+  @Override
+  protected void collectInitializationErrors(final List<Throwable> errors) {
+    super.collectInitializationErrors(errors);
+    final Parallelism annotation = getTestClass().getAnnotation(Parallelism.class);
+    if (annotation != null && annotation.value() <= 0)
+      errors.add(new Exception("@" + Parallelism.class.getSimpleName() + "(" + annotation.value() + ") must be positive"));
+
+    final List<FrameworkMethod> methods = getTestClass().getAnnotatedMethods(org.junit.Test.class);
+    for (int i = 0, i$ = methods.size(); i < i$; ++i) { // [RA]
+      final FrameworkMethod method = methods.get(i);
+      final Chain chain = method.getAnnotation(Chain.class);
+      if (chain != null && chain.value().isEmpty())
+        errors.add(new Exception("Method " + method.getName() + " has an empty @" + Chain.class.getSimpleName()));
+    }
+  }
+
+  /**
+   * Returns the groups of the methods that are to be run, each of which is run serially: a group of the methods of each chain, and a
+   * group of each method that is not in a chain, in the order of the first method of each group. The methods that are to be run are
+   * the children of the {@link Description} of this runner, which reflects any filter or sorter that has been applied. The methods of
+   * each chain are ordered by their declaration, regardless of any sorter.
+   */
+  private List<List<FrameworkMethod>> groups() {
+    final List<FrameworkMethod> children = getChildren();
+    final HashMap<Description,FrameworkMethod> methods = new HashMap<>();
+    for (int i = 0, i$ = children.size(); i < i$; ++i) { // [RA]
+      final FrameworkMethod method = children.get(i);
+      methods.put(describeChild(method), method);
+    }
+
+    final ArrayList<List<FrameworkMethod>> groups = new ArrayList<>();
+    final LinkedHashMap<String,List<FrameworkMethod>> chains = new LinkedHashMap<>();
+    final ArrayList<Description> descriptions = getDescription().getChildren();
+    for (int i = 0, i$ = descriptions.size(); i < i$; ++i) { // [RA]
+      final FrameworkMethod method = methods.get(descriptions.get(i));
+      if (method == null)
+        continue;
+
+      final Chain chain = method.getAnnotation(Chain.class);
+      if (chain == null) {
+        final ArrayList<FrameworkMethod> group = new ArrayList<>(1);
+        group.add(method);
+        groups.add(group);
+      }
+      else {
+        List<FrameworkMethod> group = chains.get(chain.value());
+        if (group == null) {
+          chains.put(chain.value(), group = new ArrayList<>());
+          groups.add(group);
+        }
+
+        group.add(method);
+      }
+    }
+
+    if (chains.size() > 0) {
+      final List<FrameworkMethod> declared = getTestClass().getAnnotatedMethods(org.junit.Test.class);
+      final HashMap<FrameworkMethod,Integer> positions = new HashMap<>();
+      for (int i = 0, i$ = declared.size(); i < i$; ++i) // [RA]
+        positions.put(declared.get(i), i);
+
+      for (final List<FrameworkMethod> chain : chains.values()) // [C]
+        chain.sort((o1, o2) -> Integer.compare(positions.get(o1), positions.get(o2)));
+    }
+
+    return groups;
+  }
+
+  @Override
+  protected Statement childrenInvoker(final RunNotifier notifier) {
+    return new Statement() {
+      @Override
+      public void evaluate() throws Throwable {
+        runChildren(new SerialRunNotifier(notifier));
+      }
+    };
+  }
+
+  private void runChildren(final RunNotifier notifier) throws Exception {
+    final String name = getTestClass().getJavaClass().getSimpleName();
+    final AtomicInteger count = new AtomicInteger();
+    final ExecutorService pool = Executors.newFixedThreadPool(parallelism, r -> {
+      final Thread thread = new Thread(r, "ParallelTestRunner-" + name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    final TestExecutorService executor = new TestExecutorService(pool).withFailFast();
+    try {
+      final List<List<FrameworkMethod>> groups = groups();
+      for (int i = 0, i$ = groups.size(); i < i$; ++i) { // [RA]
+        final List<FrameworkMethod> group = groups.get(i);
+        try {
+          executor.execute(() -> {
+            for (int j = 0, j$ = group.size(); j < j$; ++j) // [RA]
+              runChild(group.get(j), notifier);
+          });
+        }
+        catch (final RejectedExecutionException e) {
+          // The executor has failed, the failure of which is thrown by awaitTermination()
+          break;
+        }
+      }
+
+      // A StoppedByUserException of a method fails fast, cancelling the methods that have not yet started
+      executor.shutdown();
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+    finally {
+      // No event of a method is to be fired after this runner has left its children, i.e. after the AfterClass methods
+      awaitTermination(pool);
+    }
+  }
+
+  /**
+   * Waits for the termination of the provided {@link ExecutorService}, having interrupted the methods that are still running. An
+   * interrupt of the current thread does not end the wait, but is restored after it.
+   */
+  private static void awaitTermination(final ExecutorService pool) {
+    if (pool.isTerminated())
+      return;
+
+    pool.shutdownNow();
+    boolean interrupted = false;
+    while (true) {
+      try {
+        if (pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS))
+          break;
+      }
+      catch (final InterruptedException e) {
+        interrupted = true;
+      }
+    }
+
+    if (interrupted)
+      Thread.currentThread().interrupt();
+  }
+}
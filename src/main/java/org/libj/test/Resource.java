@@ -0,0 +1,212 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.jar.JarEntry;
+
+/**
+ * A resource of a {@link ClassLoader}, i.e. a file or directory in a directory of the classpath, or an entry in a JAR file, with
+ * access to its content without a copy on the heap: {@link #getBuffer()} returns a read-only {@link MappedByteBuffer} of a file, and
+ * a direct {@link ByteBuffer} of the decompressed content of a JAR entry.
+ *
+ * @see JUnitUtil#streamResources(String,String,ClassLoader)
+ * @see ResourceIndex
+ */
+public final class Resource {
+  private static final int BUFFER_SIZE = 8192;
+
+  private final String name;
+  private final Path file;
+  private final ResourceIndex.Root jar;
+  private URL url;
+
+  private Resource(final String name, final URL url, final Path file, final ResourceIndex.Root jar) {
+    this.name = name;
+    this.url = url;
+    this.file = file;
+    this.jar = jar;
+  }
+
+  static Resource of(final String name, final ResourceIndex.Root root) {
+    return root.jar ? new Resource(name, null, null, root) : new Resource(name, null, root.path.resolve(name), null);
+  }
+
+  static Resource of(final String name, final URL url) {
+    Path file = null;
+    if (url != null && "file".equals(url.getProtocol())) {
+      try {
+        file = Paths.get(url.toURI());
+      }
+      catch (final URISyntaxException | IllegalArgumentException e) {
+      }
+    }
+
+    return new Resource(name, url, file, null);
+  }
+
+  /**
+   * Returns the name of this resource, relative to the root of the classpath in which it exists. The names of directories end with
+   * {@code '/'}.
+   *
+   * @return The name of this resource.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the {@link URL} of this resource.
+   *
+   * @return The {@link URL} of this resource.
+   */
+  public URL getURL() {
+    if (url == null)
+      url = jar != null ? jar.toURL(name) : ResourceIndex.toURL(file);
+
+    return url;
+  }
+
+  /**
+   * Returns whether this resource is a directory.
+   *
+   * @return Whether this resource is a directory.
+   */
+  public boolean isDirectory() {
+    return name.endsWith("/") || file != null && Files.isDirectory(file);
+  }
+
+  /**
+   * Returns a {@link JarURLConnection} to this entry of a JAR file, whose {@link java.util.jar.JarFile JarFile} is shared by way of
+   * the cache of {@link JarURLConnection}, as with {@link ClassLoader#getResourceAsStream(String)}.
+   */
+  private JarURLConnection connect() throws IOException {
+    final JarURLConnection connection = (JarURLConnection)getURL().openConnection();
+    connection.setUseCaches(true);
+    return connection;
+  }
+
+  /**
+   * Returns the size of this resource in bytes, or {@code -1} if the size is not known.
+   *
+   * @return The size of this resource in bytes, or {@code -1} if the size is not known.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public long getSize() throws IOException {
+    if (file != null)
+      return Files.size(file);
+
+    if (jar != null) {
+      final JarEntry entry = connect().getJarEntry();
+      return entry == null ? -1 : entry.getSize();
+    }
+
+    return -1;
+  }
+
+  /**
+   * Opens an {@link InputStream} of the content of this resource.
+   *
+   * @return An {@link InputStream} of the content of this resource.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public InputStream openStream() throws IOException {
+    if (file != null)
+      return Files.newInputStream(file);
+
+    if (jar != null)
+      return connect().getInputStream();
+
+    return url.openStream();
+  }
+
+  /**
+   * Returns a read-only {@link ByteBuffer} of the content of this resource, which is a {@link MappedByteBuffer} of a file, or a
+   * direct {@link ByteBuffer} of any other resource, such as an entry of a JAR file. Neither is copied onto the heap.
+   *
+   * @return A read-only {@link ByteBuffer} of the content of this resource.
+   * @throws IOException If an I/O error has occurred, or if this resource is a directory.
+   */
+  public ByteBuffer getBuffer() throws IOException {
+    if (isDirectory())
+      throw new IOException("Is a directory: " + name);
+
+    if (file != null) {
+      try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        // The mapping remains valid after the channel is closed
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+    }
+
+    final long size = getSize();
+    if (size > Integer.MAX_VALUE)
+      throw new IOException("Resource is too large to be buffered: " + name + " (" + size + " bytes)");
+
+    ByteBuffer buffer = ByteBuffer.allocateDirect(size < 0 ? BUFFER_SIZE : (int)size);
+    try (final ReadableByteChannel channel = Channels.newChannel(openStream())) {
+      while (channel.read(buffer) != -1) {
+        if (!buffer.hasRemaining()) {
+          if (size >= 0 && buffer.capacity() == size)
+            break;
+
+          // The size is not known in advance
+          final ByteBuffer grown = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+          buffer.flip();
+          grown.put(buffer);
+          buffer = grown;
+        }
+      }
+    }
+
+    buffer.flip();
+    return buffer.asReadOnlyBuffer();
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Resource))
+      return false;
+
+    return getURL().toString().equals(((Resource)obj).getURL().toString());
+  }
+
+  @Override
+  public int hashCode() {
+    return getURL().toString().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return getURL().toString();
+  }
+}
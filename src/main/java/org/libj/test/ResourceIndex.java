@@ -0,0 +1,559 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.ProviderNotFoundException;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipError;
+
+/**
+ * An index of the names of the resources of a {@link ClassLoader}, which is built once per {@link ClassLoader}, and answers lookups
+ * by name, prefix, and regular expression by binary search in sorted arrays, without further I/O.
+ * <p>
+ * The index covers the directories and JAR files of the classpath of the {@link ClassLoader} and its parents, i.e. the URLs of each
+ * {@link URLClassLoader} and the {@code java.class.path} of the system class loader, each JAR of which is followed by the entries of
+ * the {@code Class-Path} of its manifest (as searched by {@link URLClassLoader}, and as launched by Surefire with a manifest-only JAR),
+ * and the directories of {@link ClassLoader#getResources(String) getResources("")}.
+ * Directories are walked in parallel on the {@linkplain ForkJoinPool#commonPool() common pool}, and JAR files are read through NIO zip
+ * file systems. Files on the classpath that cannot be read as JAR files are skipped. As with {@link ClassLoader#getResource(String)}, a
+ * name that is present in several roots resolves to the first of them.
+ * <p>
+ * The names of the index are a snapshot of the classpath at the time it is built: resources that are created thereafter are not
+ * returned by any method of the index, until the index of the {@link ClassLoader} is {@linkplain #invalidate(ClassLoader)
+ * invalidated}, upon which the next call to {@link #of(ClassLoader)} builds a new index.
+ */
+public final class ResourceIndex {
+  private static final Map<ClassLoader,AtomicReference<ResourceIndex>> instances = new WeakHashMap<>();
+  private static final String[] emptyNames = {};
+
+  /**
+   * Returns the {@link ResourceIndex} of the provided {@link ClassLoader}, which is built upon the first call for the
+   * {@link ClassLoader}, and is cached for as long as the {@link ClassLoader} is reachable, or until it is
+   * {@linkplain #invalidate(ClassLoader) invalidated}. The index of a {@link ClassLoader} is built under a lock of its own, so that
+   * the indexes of other {@link ClassLoader}s are not blocked while it is built.
+   *
+   * @param classLoader The {@link ClassLoader}.
+   * @return The {@link ResourceIndex} of the provided {@link ClassLoader}.
+   * @throws IOException If an I/O error has occurred while building the index.
+   * @throws NullPointerException If {@code classLoader} is null.
+   */
+  public static ResourceIndex of(final ClassLoader classLoader) throws IOException {
+    Objects.requireNonNull(classLoader);
+    final AtomicReference<ResourceIndex> reference;
+    synchronized (instances) {
+      reference = instances.computeIfAbsent(classLoader, k -> new AtomicReference<>());
+    }
+
+    synchronized (reference) {
+      ResourceIndex index = reference.get();
+      if (index == null)
+        reference.set(index = new ResourceIndex(classLoader));
+
+      return index;
+    }
+  }
+
+  /**
+   * Invalidates the {@link ResourceIndex} of the provided {@link ClassLoader}, such that the next call to {@link #of(ClassLoader)}
+   * builds a new index, which reflects the resources that have been created or deleted since the previous index was built.
+   *
+   * @param classLoader The {@link ClassLoader}.
+   * @throws NullPointerException If {@code classLoader} is null.
+   */
+  public static void invalidate(final ClassLoader classLoader) {
+    Objects.requireNonNull(classLoader);
+    synchronized (instances) {
+      instances.remove(classLoader);
+    }
+  }
+
+  /**
+   * A directory or JAR file of the classpath, with the sorted names of its entries, of which the names of directories end with
+   * {@code '/'}.
+   */
+  static final class Root {
+    final Path path;
+    final boolean jar;
+    private String[] names;
+
+    private Root(final Path path) {
+      this.path = path;
+      this.jar = !Files.isDirectory(path);
+    }
+
+    URL toURL(final String name) {
+      try {
+        return jar ? new URL("jar:" + path.toUri() + "!/" + name) : path.resolve(name).toUri().toURL();
+      }
+      catch (final MalformedURLException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  static URL toURL(final Path file) {
+    try {
+      return file.toUri().toURL();
+    }
+    catch (final MalformedURLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Lists the entries of a directory, and forks a task for each of its subdirectories.
+   */
+  private static final class Walk extends RecursiveAction {
+    private static final long serialVersionUID = -1398520612395880545L;
+
+    private final Path dir;
+    private final String prefix;
+    private final ConcurrentLinkedQueue<String> names;
+
+    private Walk(final Path dir, final String prefix, final ConcurrentLinkedQueue<String> names) {
+      this.dir = dir;
+      this.prefix = prefix;
+      this.names = names;
+    }
+
+    @Override
+    protected void compute() {
+      final ArrayList<Walk> walks = new ArrayList<>();
+      try (final DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+        for (final Path path : stream) { // [I]
+          final String name = prefix + path.getFileName();
+          if (Files.isDirectory(path)) {
+            names.add(name + "/");
+            walks.add(new Walk(path, name + "/", names));
+          }
+          else {
+            names.add(name);
+          }
+        }
+      }
+      catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      invokeAll(walks);
+    }
+  }
+
+  /**
+   * Returns a new zip {@link FileSystem} of the provided file, or {@code null} if the file is not a readable zip file.
+   */
+  private static FileSystem newZipFileSystem(final Path file) {
+    try {
+      return FileSystems.newFileSystem(file, (ClassLoader)null);
+    }
+    catch (final IOException | ProviderNotFoundException | ZipError e) {
+      return null;
+    }
+  }
+
+  private static void index(final Root root) throws IOException {
+    final ConcurrentLinkedQueue<String> names = new ConcurrentLinkedQueue<>();
+    if (!root.jar) {
+      new Walk(root.path, "", names).invoke();
+    }
+    else {
+      final FileSystem zip = newZipFileSystem(root.path);
+      if (zip == null) {
+        root.names = emptyNames;
+        return;
+      }
+
+      try (final FileSystem fs = zip) {
+        final Path base = fs.getPath("/");
+        Files.walkFileTree(base, new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+            if (!dir.equals(base))
+              names.add(base.relativize(dir) + "/");
+
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+            names.add(base.relativize(file).toString());
+            return FileVisitResult.CONTINUE;
+          }
+        });
+      }
+    }
+
+    final String[] array = names.toArray(emptyNames);
+    Arrays.sort(array);
+    root.names = array;
+  }
+
+  private static void addRoot(final LinkedHashSet<Path> paths, final URL url) throws IOException {
+    if ("file".equals(url.getProtocol())) {
+      try {
+        addRoot(paths, Paths.get(url.toURI()));
+      }
+      catch (final URISyntaxException | IllegalArgumentException e) {
+      }
+    }
+  }
+
+  /**
+   * Adds the provided path to the provided set, followed by the entries of the {@code Class-Path} of its manifest if it is a JAR, in
+   * the order in which {@link URLClassLoader} searches them.
+   */
+  private static void addRoot(final LinkedHashSet<Path> paths, final Path path) throws IOException {
+    if (!Files.exists(path))
+      return;
+
+    final Path root = path.toAbsolutePath().normalize();
+    if (paths.add(root) && Files.isRegularFile(root))
+      addManifestClassPath(paths, root);
+  }
+
+  /**
+   * Adds the roots of the classpath of the provided {@link ClassLoader} to the provided set, parents first, as by the delegation
+   * model of {@link ClassLoader}.
+   */
+  private static void addRoots(final LinkedHashSet<Path> paths, final ClassLoader classLoader) throws IOException {
+    final ArrayList<ClassLoader> chain = new ArrayList<>();
+    for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent())
+      chain.add(loader);
+
+    final ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+    for (int i = chain.size() - 1; i >= 0; --i) { // [RA]
+      final ClassLoader loader = chain.get(i);
+      if (loader instanceof URLClassLoader) {
+        for (final URL url : ((URLClassLoader)loader).getURLs()) // [A]
+          addRoot(paths, url);
+      }
+      else if (loader == systemClassLoader) {
+        for (final String entry : System.getProperty("java.class.path").split(File.pathSeparator)) // [A]
+          if (entry.length() > 0)
+            addRoot(paths, Paths.get(entry));
+      }
+    }
+
+    for (final Enumeration<URL> urls = classLoader.getResources(""); urls.hasMoreElements();) // [E]
+      addRoot(paths, urls.nextElement());
+  }
+
+  private static void addManifestClassPath(final LinkedHashSet<Path> paths, final Path jar) throws IOException {
+    final FileSystem zip = newZipFileSystem(jar);
+    if (zip == null)
+      return;
+
+    final ArrayList<URL> urls = new ArrayList<>();
+    try (final FileSystem fs = zip) {
+      final Path path = fs.getPath("META-INF/MANIFEST.MF");
+      if (!Files.exists(path))
+        return;
+
+      final String classPath;
+      try (final InputStream in = Files.newInputStream(path)) {
+        classPath = new Manifest(in).getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+      }
+
+      if (classPath == null)
+        return;
+
+      final URL base = jar.toUri().toURL();
+      for (final String entry : classPath.trim().split("\\s+")) // [A]
+        if (entry.length() > 0)
+          urls.add(new URL(base, entry));
+    }
+
+    for (int i = 0, i$ = urls.size(); i < i$; ++i) // [RA]
+      addRoot(paths, urls.get(i));
+  }
+
+  private final Root[] roots;
+  private final String[] names;
+  private final Root[] owners;
+
+  private ResourceIndex(final ClassLoader classLoader) throws IOException {
+    final LinkedHashSet<Path> paths = new LinkedHashSet<>();
+    addRoots(paths, classLoader);
+    final ArrayList<Root> roots = new ArrayList<>(paths.size());
+    for (final Path path : paths) // [S]
+      roots.add(new Root(path));
+
+    try {
+      ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+        private static final long serialVersionUID = 5396153436102474012L;
+
+        @Override
+        protected void compute() {
+          final ArrayList<RecursiveAction> tasks = new ArrayList<>(roots.size());
+          for (int i = 0, i$ = roots.size(); i < i$; ++i) { // [RA]
+            final Root root = roots.get(i);
+            tasks.add(new RecursiveAction() {
+              private static final long serialVersionUID = -7779616185418329493L;
+
+              @Override
+              protected void compute() {
+                try {
+                  index(root);
+                }
+                catch (final IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              }
+            });
+          }
+
+          invokeAll(tasks);
+        }
+      });
+    }
+    catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    this.roots = roots.toArray(new Root[roots.size()]);
+
+    // Resources that are present in several roots resolve to the first of them
+    final HashMap<String,Root> owners = new HashMap<>();
+    for (final Root root : this.roots) // [A]
+      for (final String name : root.names) // [A]
+        if (!name.endsWith("/"))
+          owners.putIfAbsent(name, root);
+
+    this.names = owners.keySet().toArray(emptyNames);
+    Arrays.sort(this.names);
+    this.owners = new Root[this.names.length];
+    for (int i = 0; i < this.names.length; ++i) // [A]
+      this.owners[i] = owners.get(this.names[i]);
+  }
+
+  private static int indexOf(final String[] names, final String prefix) {
+    final int index = Arrays.binarySearch(names, prefix);
+    return index < 0 ? -index - 1 : index;
+  }
+
+  /**
+   * Returns the index of the first name at or after {@code from} that does not start with the provided {@code prefix}, by binary
+   * search, given that the names from {@code from} that start with the {@code prefix} are contiguous, as they are in a sorted array.
+   */
+  private static int endOf(final String[] names, final int from, final String prefix) {
+    int lo = from;
+    int hi = names.length;
+    while (lo < hi) {
+      final int mid = (lo + hi) >>> 1;
+      if (names[mid].startsWith(prefix))
+        lo = mid + 1;
+      else
+        hi = mid;
+    }
+
+    return lo;
+  }
+
+  /**
+   * Returns the {@link URL} of the resource with the provided {@code name}, or {@code null} if no such resource is indexed.
+   *
+   * @param name The name of the resource.
+   * @return The {@link URL} of the resource with the provided {@code name}, or {@code null} if no such resource is indexed.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public URL getResource(final String name) {
+    final int index = Arrays.binarySearch(names, name);
+    return index < 0 ? null : owners[index].toURL(name);
+  }
+
+  /**
+   * Returns the sorted names of the resources whose names start with the provided {@code prefix}, and match the provided
+   * {@code pattern} (if not null).
+   *
+   * @param prefix The prefix of the names of the resources.
+   * @param pattern The {@link Pattern} to match the names of the resources, or {@code null} to match all names.
+   * @return The sorted names of the resources whose names start with the provided {@code prefix}, and match the provided
+   *         {@code pattern}.
+   * @throws NullPointerException If {@code prefix} is null.
+   */
+  public String[] getNames(final String prefix, final Pattern pattern) {
+    final int from = indexOf(names, prefix);
+    final int to = endOf(names, from, prefix);
+
+    if (pattern == null)
+      return Arrays.copyOfRange(names, from, to);
+
+    final ArrayList<String> matches = new ArrayList<>();
+    for (int i = from; i < to; ++i) // [A]
+      if (pattern.matcher(names[i]).matches())
+        matches.add(names[i]);
+
+    return matches.toArray(emptyNames);
+  }
+
+  /**
+   * Returns the {@link URL}s of the resources whose names start with the provided {@code prefix}, and match the provided
+   * {@code pattern} (if not null), in the order of their names.
+   *
+   * @param prefix The prefix of the names of the resources.
+   * @param pattern The {@link Pattern} to match the names of the resources, or {@code null} to match all names.
+   * @return The {@link URL}s of the resources whose names start with the provided {@code prefix}, and match the provided
+   *         {@code pattern}.
+   * @throws NullPointerException If {@code prefix} is null.
+   */
+  public URL[] getResources(final String prefix, final Pattern pattern) {
+    return stream(prefix, pattern).map(Resource::getURL).toArray(URL[]::new);
+  }
+
+  /**
+   * Returns a lazy {@link Stream} of the resources whose names start with the provided {@code prefix}, and match the provided
+   * {@code pattern} (if not null), in the order of their names. The {@link Resource} of each match is created as the stream is
+   * consumed.
+   *
+   * @param prefix The prefix of the names of the resources.
+   * @param pattern The {@link Pattern} to match the names of the resources, or {@code null} to match all names.
+   * @return A lazy {@link Stream} of the resources whose names start with the provided {@code prefix}, and match the provided
+   *         {@code pattern}.
+   * @throws NullPointerException If {@code prefix} is null.
+   */
+  public Stream<Resource> stream(final String prefix, final Pattern pattern) {
+    final int from = indexOf(names, prefix);
+    final IntStream indexes = IntStream.range(from, endOf(names, from, prefix));
+    return (pattern == null ? indexes : indexes.filter(i -> pattern.matcher(names[i]).matches())).mapToObj(i -> Resource.of(names[i], owners[i]));
+  }
+
+  private static boolean matches(final Pattern pattern, final String name) {
+    return pattern == null || pattern.matcher(name.endsWith("/") ? name.substring(0, name.length() - 1) : name).matches();
+  }
+
+  /**
+   * Returns the {@link URL} of the entry with the provided relative {@code name} in the directory at the provided {@link URL} (which
+   * ends with {@code '/'}), in the form of {@link URLClassLoader}, i.e. without a trailing {@code '/'} for a directory.
+   */
+  private static URL toURL(final String directory, final String name) {
+    try {
+      return new URL(directory + new URI(null, null, name, null).getRawPath());
+    }
+    catch (final MalformedURLException | URISyntaxException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns the first root that contains the directory of the provided {@code prefix} (which is empty, or ends with {@code '/'}), as
+   * searched by {@link ClassLoader#getResource(String)}, or {@code null} if no root contains it. The empty prefix denotes the first
+   * directory root.
+   */
+  private Root rootOf(final String prefix) {
+    for (final Root root : roots) // [A]
+      if (prefix.isEmpty() ? !root.jar : Arrays.binarySearch(root.names, prefix) >= 0)
+        return root;
+
+    return null;
+  }
+
+  /**
+   * Returns a lazy {@link Stream} of the entries (files and directories) of the provided {@code directory}, whose names (without a
+   * trailing {@code '/'}) match the provided {@code pattern} (if not null), or {@code null} if the {@code directory} is not a directory
+   * of a root of the classpath. The {@code directory} is listed from the index of the first root that contains it, which is the root
+   * from which the {@link ClassLoader} loads it. The empty string denotes the first directory root.
+   */
+  Stream<Resource> children(final String directory, final Pattern pattern) {
+    final String prefix = directory.isEmpty() || directory.endsWith("/") ? directory : directory + "/";
+    final Root root = rootOf(prefix);
+    if (root == null)
+      return null;
+
+    final String[] names = root.names;
+    final int from = indexOf(names, prefix);
+    final IntStream children = IntStream.range(from, endOf(names, from, prefix)).filter(i -> {
+      final String name = names[i];
+      final int slash = name.indexOf('/', prefix.length());
+      return name.length() > prefix.length() && (slash == -1 || slash == name.length() - 1) && matches(pattern, name);
+    });
+
+    if (root.jar)
+      return children.mapToObj(i -> Resource.of(names[i], root));
+
+    // The URLs of the entries of a directory root are of the form of the ClassLoader, i.e. without a trailing '/' for a directory
+    final String base = root.path.toUri().toString();
+    return children.mapToObj(i -> {
+      final String name = names[i];
+      return Resource.of(name, toURL(base, name.endsWith("/") ? name.substring(0, name.length() - 1) : name));
+    });
+  }
+
+  /**
+   * Returns the {@link URL}s of the entries (files and directories) of the provided {@code directory} in the root of the classpath
+   * from which the {@link ClassLoader} loads it, whose names (without a trailing {@code '/'}) match the provided {@code pattern} (if
+   * not null), or {@code null} if the {@code directory} is not a directory of a root of the classpath. The empty string denotes the
+   * first directory root.
+   *
+   * @param directory The name of the directory, with or without a trailing {@code '/'}.
+   * @param pattern The {@link Pattern} to match the names of the entries, or {@code null} to match all names.
+   * @return The {@link URL}s of the entries of the provided {@code directory} in the root of the classpath from which the
+   *         {@link ClassLoader} loads it, or {@code null} if the {@code directory} is not a directory of a root of the classpath.
+   * @throws NullPointerException If {@code directory} is null.
+   */
+  public URL[] list(final String directory, final Pattern pattern) {
+    final Stream<Resource> children = children(directory, pattern);
+    return children == null ? null : children.map(Resource::getURL).toArray(URL[]::new);
+  }
+
+  /**
+   * Returns the number of resources in this index.
+   *
+   * @return The number of resources in this index.
+   */
+  public int size() {
+    return names.length;
+  }
+
+  @Override
+  public String toString() {
+    return "ResourceIndex[roots=" + roots.length + ", resources=" + names.length + "]";
+  }
+}
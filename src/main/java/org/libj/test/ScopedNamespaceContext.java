@@ -0,0 +1,191 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+
+/**
+ * Immutable, persistent implementation of {@link NamespaceContext} for the resolution of namespace declarations that are scoped to
+ * the elements of a document.
+ * <p>
+ * Each instance is a frame that declares a single prefix-to-namespaceURI mapping, and links to its enclosing frame. Declarations
+ * are pushed in O(1) by creating a new frame that shares its enclosing frames with the instance from which it was pushed, and are
+ * popped by returning to the enclosing frame. Declarations in nearer frames shadow those of the same prefix in enclosing frames.
+ */
+public final class ScopedNamespaceContext implements NamespaceContext {
+  /** The empty {@link ScopedNamespaceContext}, which declares no mappings. */
+  public static final ScopedNamespaceContext EMPTY = new ScopedNamespaceContext(null, null, null);
+
+  private final ScopedNamespaceContext parent;
+  private final String prefix;
+  private final String namespaceURI;
+  private final int hashCode;
+
+  private ScopedNamespaceContext(final ScopedNamespaceContext parent, final String prefix, final String namespaceURI) {
+    this.parent = parent;
+    this.prefix = prefix;
+    this.namespaceURI = namespaceURI;
+    this.hashCode = parent == null ? 0 : 31 * (31 * parent.hashCode + prefix.hashCode()) + namespaceURI.hashCode();
+  }
+
+  /**
+   * Returns a new {@link ScopedNamespaceContext} that declares the provided {@code prefix}-to-{@code namespaceURI} mapping in the
+   * scope of this instance.
+   *
+   * @param prefix The prefix, or {@code ""} for the default namespace.
+   * @param namespaceURI The namespace URI.
+   * @return A new {@link ScopedNamespaceContext} that declares the provided {@code prefix}-to-{@code namespaceURI} mapping in the
+   *         scope of this instance.
+   * @throws NullPointerException If {@code prefix} or {@code namespaceURI} is null.
+   */
+  public ScopedNamespaceContext push(final String prefix, final String namespaceURI) {
+    return new ScopedNamespaceContext(this, Objects.requireNonNull(prefix), Objects.requireNonNull(namespaceURI));
+  }
+
+  /**
+   * Returns a {@link ScopedNamespaceContext} that declares the {@code xmlns} attributes of the provided {@link Element} in the scope
+   * of this instance, or this instance if the element has no such attributes.
+   *
+   * @param element The {@link Element}.
+   * @return A {@link ScopedNamespaceContext} that declares the {@code xmlns} attributes of the provided {@link Element} in the scope
+   *         of this instance.
+   * @throws NullPointerException If {@code element} is null.
+   */
+  public ScopedNamespaceContext push(final Element element) {
+    ScopedNamespaceContext context = this;
+    final NamedNodeMap attributes = element.getAttributes();
+    for (int i = 0, i$ = attributes.getLength(); i < i$; ++i) { // [RA]
+      final Attr attribute = (Attr)attributes.item(i);
+      if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()))
+        context = context.push("xmlns".equals(attribute.getPrefix()) ? attribute.getLocalName() : XMLConstants.DEFAULT_NS_PREFIX, attribute.getNodeValue());
+    }
+
+    return context;
+  }
+
+  /**
+   * Returns the {@link ScopedNamespaceContext} that encloses this instance, i.e. without the most recently pushed declaration.
+   *
+   * @return The {@link ScopedNamespaceContext} that encloses this instance.
+   * @throws IllegalStateException If this instance is {@link #EMPTY}.
+   */
+  public ScopedNamespaceContext pop() {
+    if (parent == null)
+      throw new IllegalStateException("Cannot pop the empty context");
+
+    return parent;
+  }
+
+  @Override
+  public String getNamespaceURI(final String prefix) {
+    if (prefix == null)
+      throw new IllegalArgumentException("prefix is null");
+
+    if (XMLConstants.XMLNS_ATTRIBUTE.equals(prefix))
+      return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+
+    if (XMLConstants.XML_NS_PREFIX.equals(prefix))
+      return XMLConstants.XML_NS_URI;
+
+    for (ScopedNamespaceContext frame = this; frame.parent != null; frame = frame.parent)
+      if (prefix.equals(frame.prefix))
+        return frame.namespaceURI;
+
+    // As per the contract of NamespaceContext, an unbound prefix resolves to XMLConstants.NULL_NS_URI
+    return XMLConstants.NULL_NS_URI;
+  }
+
+  @Override
+  public String getPrefix(final String uri) {
+    if (uri == null)
+      throw new IllegalArgumentException("uri is null");
+
+    if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri))
+      return XMLConstants.XMLNS_ATTRIBUTE;
+
+    if (XMLConstants.XML_NS_URI.equals(uri))
+      return XMLConstants.XML_NS_PREFIX;
+
+    for (ScopedNamespaceContext frame = this; frame.parent != null; frame = frame.parent)
+      if (uri.equals(frame.namespaceURI) && frame == find(frame.prefix))
+        return frame.prefix;
+
+    return null;
+  }
+
+  @Override
+  public Iterator<String> getPrefixes(final String uri) {
+    if (uri == null)
+      throw new IllegalArgumentException("uri is null");
+
+    if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri))
+      return Collections.singletonList(XMLConstants.XMLNS_ATTRIBUTE).iterator();
+
+    if (XMLConstants.XML_NS_URI.equals(uri))
+      return Collections.singletonList(XMLConstants.XML_NS_PREFIX).iterator();
+
+    final ArrayList<String> prefixes = new ArrayList<>();
+    for (ScopedNamespaceContext frame = this; frame.parent != null; frame = frame.parent)
+      if (uri.equals(frame.namespaceURI) && frame == find(frame.prefix))
+        prefixes.add(frame.prefix);
+
+    return Collections.unmodifiableList(prefixes).iterator();
+  }
+
+  private ScopedNamespaceContext find(final String prefix) {
+    for (ScopedNamespaceContext frame = this; frame.parent != null; frame = frame.parent)
+      if (prefix.equals(frame.prefix))
+        return frame;
+
+    return null;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof ScopedNamespaceContext))
+      return false;
+
+    ScopedNamespaceContext that = (ScopedNamespaceContext)obj;
+    if (hashCode != that.hashCode)
+      return false;
+
+    // Frames are compared until a frame is shared by both instances
+    for (ScopedNamespaceContext frame = this; frame != that; frame = frame.parent, that = that.parent)
+      if (frame.parent == null || that.parent == null || !frame.prefix.equals(that.prefix) || !frame.namespaceURI.equals(that.namespaceURI))
+        return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+}
@@ -18,93 +18,166 @@ package org.libj.test;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 
 /**
  * Immutable class implementation of {@link NamespaceContext}.
+ * <p>
+ * The prefix-to-namespaceURI mappings are copied upon construction into frozen open-addressing tables of interned strings, such
+ * that {@link #getNamespaceURI(String)}, {@link #getPrefix(String)} and {@link #getPrefixes(String)} resolve without allocation
+ * (except for the {@link Iterator} returned by the latter).
  */
 public class SimpleNamespaceContext implements NamespaceContext, Serializable {
-  private static final List<String> xmlns = Collections.singletonList("xmlns");
-  private static final List<String> xml = Collections.singletonList("xml");
+  private static final String[] xmlns = {"xmlns"};
+  private static final String[] xml = {"xml"};
 
-  private final Map<String,String> prefixToNamespaceURI;
-  private final Map<String,List<String>> namespaceUriToPrefix = new HashMap<>();
+  private static final class ArrayIterator implements Iterator<String> {
+    private final String[] array;
+    private int index;
+
+    private ArrayIterator(final String[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < array.length;
+    }
+
+    @Override
+    public String next() {
+      if (index == array.length)
+        throw new NoSuchElementException();
+
+      return array[index++];
+    }
+  }
+
+  private static int capacity(final int size) {
+    return Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1;
+  }
+
+  private static int index(final String key, final int mask) {
+    final int h = key.hashCode();
+    return (h ^ (h >>> 16)) & mask;
+  }
+
+  private static int find(final String[] keys, final String key) {
+    final int mask = keys.length - 1;
+    for (int i = index(key, mask);; i = (i + 1) & mask) {
+      final String k = keys[i];
+      if (k == null || k == key || k.equals(key))
+        return i;
+    }
+  }
+
+  private final String[] prefixes;
+  private final String[] prefixToNamespaceURI;
+  private final String[] namespaceURIs;
+  private final String[][] namespaceURIToPrefixes;
+  private final int size;
+  private final int hashCode;
 
   /**
    * Creates a new {@link SimpleNamespaceContext} with the provided {@code prefixToNamespaceURI} of prefix-to-namespaceURI mappings.
+   * The mappings are copied, and subsequent modifications to the provided map are not reflected by this instance.
    *
    * @param prefixToNamespaceURI The map of prefix-to-namespaceURI mappings.
-   * @throws NullPointerException If {@code prefixToNamespaceURI} is null.
+   * @throws NullPointerException If {@code prefixToNamespaceURI} is null, or contains a null prefix or namespaceURI.
    */
   public SimpleNamespaceContext(final Map<String,String> prefixToNamespaceURI) {
-    this.prefixToNamespaceURI = prefixToNamespaceURI;
-    if (prefixToNamespaceURI.size() > 0) {
+    this.size = prefixToNamespaceURI.size();
+    final int capacity = capacity(size);
+    this.prefixes = new String[capacity];
+    this.prefixToNamespaceURI = new String[capacity];
+
+    int hashCode = 0;
+    final LinkedHashMap<String,ArrayList<String>> namespaceURIToPrefixes = new LinkedHashMap<>();
+    if (size > 0) {
       for (final Map.Entry<String,String> entry : prefixToNamespaceURI.entrySet()) { // [S]
-        List<String> prefixes = namespaceUriToPrefix.get(entry.getValue());
-        if (prefixes == null)
-          namespaceUriToPrefix.put(entry.getValue(), prefixes = new ArrayList<>());
-
-        prefixes.add(entry.getKey());
+        final String prefix = entry.getKey().intern();
+        final String namespaceURI = entry.getValue().intern();
+        final int i = find(prefixes, prefix);
+        prefixes[i] = prefix;
+        this.prefixToNamespaceURI[i] = namespaceURI;
+        hashCode += prefix.hashCode() ^ namespaceURI.hashCode();
+
+        ArrayList<String> list = namespaceURIToPrefixes.get(namespaceURI);
+        if (list == null)
+          namespaceURIToPrefixes.put(namespaceURI, list = new ArrayList<>());
+
+        list.add(prefix);
       }
     }
+
+    this.hashCode = hashCode;
+    final int uriCapacity = capacity(namespaceURIToPrefixes.size());
+    this.namespaceURIs = new String[uriCapacity];
+    this.namespaceURIToPrefixes = new String[uriCapacity][];
+    for (final Map.Entry<String,ArrayList<String>> entry : namespaceURIToPrefixes.entrySet()) { // [S]
+      final int i = find(namespaceURIs, entry.getKey());
+      namespaceURIs[i] = entry.getKey();
+      this.namespaceURIToPrefixes[i] = entry.getValue().toArray(new String[entry.getValue().size()]);
+    }
   }
 
   @Override
   public String getNamespaceURI(final String prefix) {
-    return prefixToNamespaceURI.get(prefix);
+    return prefix == null ? null : prefixToNamespaceURI[find(prefixes, prefix)];
   }
 
-  @Override
-  public String getPrefix(final String uri) {
+  private String[] getPrefixArray(final String uri) {
     if (uri == null)
       throw new IllegalArgumentException("uri is null");
 
     if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri))
-      return "xmlns";
+      return xmlns;
 
     if (XMLConstants.XML_NS_URI.equals(uri))
-      return "xml";
+      return xml;
 
-    final List<String> prefixes = namespaceUriToPrefix.get(uri);
-    return prefixes == null ? null : prefixes.get(0);
+    return namespaceURIToPrefixes[find(namespaceURIs, uri)];
+  }
+
+  @Override
+  public String getPrefix(final String uri) {
+    final String[] prefixes = getPrefixArray(uri);
+    return prefixes == null ? null : prefixes[0];
   }
 
   @Override
   public Iterator<String> getPrefixes(final String uri) {
-    if (uri == null)
-      throw new IllegalArgumentException("uri is null");
+    final String[] prefixes = getPrefixArray(uri);
+    return prefixes == null ? null : new ArrayIterator(prefixes);
+  }
 
-    if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri))
-      return xmlns.iterator();
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
 
-    if (XMLConstants.XML_NS_URI.equals(uri))
-      return xml.iterator();
+    if (!(obj instanceof SimpleNamespaceContext))
+      return false;
 
-    final List<String> prefixes = namespaceUriToPrefix.get(uri);
-    return prefixes == null ? null : new Iterator<String>() {
-      private final Iterator<String> iterator = prefixes.iterator();
+    final SimpleNamespaceContext that = (SimpleNamespaceContext)obj;
+    if (size != that.size || hashCode != that.hashCode)
+      return false;
 
-      @Override
-      public boolean hasNext() {
-        return iterator.hasNext();
-      }
+    for (int i = 0; i < prefixes.length; ++i) // [A]
+      if (prefixes[i] != null && !prefixToNamespaceURI[i].equals(that.getNamespaceURI(prefixes[i])))
+        return false;
 
-      @Override
-      public String next() {
-        return iterator.next();
-      }
+    return true;
+  }
 
-      @Override
-      public void remove() {
-        throw new UnsupportedOperationException();
-      }
-    };
+  @Override
+  public int hashCode() {
+    return hashCode;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+
+/**
+ * Utility functions for the computation of a 64-bit canonical hash of the structure of a DOM tree.
+ * <p>
+ * The hash is conservative with respect to the rules of {@link AssertXml#assertEqual()}: it accounts for everything that
+ * {@link AssertXml#assertEqual()} compares, and more (i.e. attribute values and namespace declarations), such that the detailed
+ * comparison of trees with equal hashes would not fail, except in the case of a collision of different trees in 64 bits. Since such
+ * a collision cannot be ruled out, {@link AssertXml#assertEqual()} does not skip the detailed comparison by the hash.
+ * Elements and attributes are identified by namespace URI, prefix and local name, and attributes are combined irrespective of their
+ * order. Whitespace-only text nodes are disregarded.
+ */
+final class StructuralHash {
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  /**
+   * Returns the 64-bit canonical hash of the structure of the provided {@link Node}.
+   *
+   * @param node The {@link Node}.
+   * @param ignoreText If {@code true}, the values of text and CDATA nodes do not contribute to the hash, otherwise they do.
+   * @return The 64-bit canonical hash of the structure of the provided {@link Node}.
+   * @throws NullPointerException If {@code node} is null.
+   */
+  static long hash(final Node node, final boolean ignoreText) {
+    final short nodeType = node.getNodeType();
+    long hash = mix(FNV_OFFSET + nodeType);
+    switch (nodeType) {
+      case Node.ELEMENT_NODE:
+        hash = hash(hash, node.getNamespaceURI());
+        hash = hash(hash, node.getPrefix());
+        hash = hash(hash, node.getLocalName());
+        final NamedNodeMap attributes = ((Element)node).getAttributes();
+        long attrs = 0;
+        for (int i = 0, i$ = attributes.getLength(); i < i$; ++i) { // [RA]
+          final Node attribute = attributes.item(i);
+          long attr = hash(FNV_OFFSET, attribute.getNamespaceURI());
+          attr = hash(attr, attribute.getPrefix());
+          attr = hash(attr, attribute.getLocalName());
+          attr = hash(attr, attribute.getNodeValue());
+          attrs += mix(attr);
+        }
+
+        hash = mix(hash ^ attrs);
+        break;
+      case Node.TEXT_NODE:
+      case Node.CDATA_SECTION_NODE:
+        if (!ignoreText)
+          hash = hash(hash, node.getNodeValue());
+
+        return mix(hash);
+      case Node.PROCESSING_INSTRUCTION_NODE:
+        hash = hash(hash, ((ProcessingInstruction)node).getTarget());
+        hash = hash(hash, ((ProcessingInstruction)node).getData());
+        return mix(hash);
+      default:
+        hash = hash(hash, node.getNodeName());
+        hash = hash(hash, node.getNodeValue());
+    }
+
+    for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling())
+      if (child.getNodeType() != Node.DOCUMENT_TYPE_NODE && !isWhitespace(child))
+        hash = mix(hash * FNV_PRIME + hash(child, ignoreText));
+
+    return hash;
+  }
+
+  /**
+   * Returns the number of nodes of the DOM tree of the provided {@link Node} (including attributes) that contribute to its
+   * {@linkplain #hash(Node,boolean) hash}, which distinguishes trees of different size whose hashes collide.
+   *
+   * @param node The {@link Node}.
+   * @return The number of nodes of the DOM tree of the provided {@link Node} that contribute to its hash.
+   * @throws NullPointerException If {@code node} is null.
+   */
+  static int count(final Node node) {
+    int count = 1;
+    final NamedNodeMap attributes = node.getAttributes();
+    if (attributes != null)
+      count += attributes.getLength();
+
+    for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling())
+      if (child.getNodeType() != Node.DOCUMENT_TYPE_NODE && !isWhitespace(child))
+        count += count(child);
+
+    return count;
+  }
+
+  /**
+   * Returns whether the provided {@link Node} is a text node whose value consists only of whitespace.
+   *
+   * @param node The {@link Node}.
+   * @return Whether the provided {@link Node} is a text node whose value consists only of whitespace.
+   */
+  static boolean isWhitespace(final Node node) {
+    if (node.getNodeType() != Node.TEXT_NODE)
+      return false;
+
+    final String value = node.getNodeValue();
+    for (int i = 0, i$ = value.length(); i < i$; ++i) // [N]
+      if (!Character.isWhitespace(value.charAt(i)))
+        return false;
+
+    return true;
+  }
+
+  private static long hash(long hash, final String value) {
+    if (value == null)
+      return (hash ^ 0xff) * FNV_PRIME;
+
+    for (int i = 0, i$ = value.length(); i < i$; ++i) // [N]
+      hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+
+    // Terminate the value, so that adjacent values cannot be shifted into one another
+    return (hash ^ 0xfe) * FNV_PRIME;
+  }
+
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  private StructuralHash() {
+  }
+}
@@ -0,0 +1,231 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A structured scope of tasks that are forked on a {@link TestExecutorService}, which joins all of its tasks, and fails fast: the
+ * first task to fail cancels its siblings, and is rethrown by {@link #join()}. The failure is also recorded by the
+ * {@link TestExecutorService}, from which it is rethrown by {@link TestExecutorService#awaitTermination(long,TimeUnit)}. Conversely,
+ * if the {@link TestExecutorService} is {@linkplain TestExecutorService#withFailFast() fail-fast}, the first failure of any of its
+ * tasks fails the scope, and cancels the tasks of the scope, which are rethrown by {@link #join()}.
+ *
+ * <pre>
+ * try (final TaskScope scope = new TaskScope(executor)) {
+ *   final Future&lt;String&gt; user = scope.fork(() -&gt; findUser());
+ *   final Future&lt;Integer&gt; order = scope.fork(() -&gt; fetchOrder());
+ *   scope.join();
+ *   ... user.get() ... order.get() ...
+ * }
+ * </pre>
+ */
+public final class TaskScope implements AutoCloseable {
+  private final class ScopeTask<T> extends FutureTask<T> {
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int FINISHED = 2;
+
+    private final AtomicInteger state = new AtomicInteger(NEW);
+
+    private ScopeTask(final Callable<T> callable) {
+      super(callable);
+    }
+
+    @Override
+    public void run() {
+      if (!state.compareAndSet(NEW, RUNNING))
+        return;
+
+      try {
+        super.run();
+      }
+      finally {
+        state.set(FINISHED);
+        finish(this);
+      }
+    }
+
+    @Override
+    protected void setException(final Throwable t) {
+      super.setException(t);
+      fail(t);
+    }
+
+    @Override
+    protected void done() {
+      // A task that is cancelled while it runs is finished when its run() exits
+      if (state.compareAndSet(NEW, FINISHED))
+        finish(this);
+    }
+  }
+
+  private final TestExecutorService executor;
+  private final ConcurrentLinkedQueue<ScopeTask<?>> tasks = new ConcurrentLinkedQueue<>();
+  // The queued tasks of the scope are discarded when a fail-fast executor fails, and are thus to be cancelled, lest join() never return
+  private final Consumer<Throwable> cancelListener = this::fail;
+  private volatile Throwable failure;
+  private int pending;
+  private boolean closed;
+
+  /**
+   * Creates a new {@link TaskScope} that forks its tasks on the provided {@link TestExecutorService}.
+   *
+   * @param executor The {@link TestExecutorService}.
+   * @throws NullPointerException If {@code executor} is null.
+   */
+  public TaskScope(final TestExecutorService executor) {
+    this.executor = Objects.requireNonNull(executor);
+    executor.addCancelListener(cancelListener);
+  }
+
+  /**
+   * Forks the provided task on the {@link TestExecutorService} of this scope.
+   *
+   * @param <T> The type parameter of the result of the task.
+   * @param task The task.
+   * @return A {@link Future} representing the pending completion of the task.
+   * @throws IllegalStateException If this scope is closed.
+   * @throws RejectedExecutionException If the task cannot be scheduled for execution.
+   * @throws NullPointerException If {@code task} is null.
+   */
+  public <T> Future<T> fork(final Callable<T> task) {
+    final ScopeTask<T> future = new ScopeTask<>(task);
+    synchronized (this) {
+      if (closed)
+        throw new IllegalStateException("Scope is closed");
+
+      ++pending;
+    }
+
+    tasks.add(future);
+    if (failure != null) {
+      future.cancel(false);
+      return future;
+    }
+
+    try {
+      executor.execute(future);
+    }
+    catch (final RuntimeException | Error e) {
+      tasks.remove(future);
+      future.cancel(false);
+      throw e;
+    }
+
+    return future;
+  }
+
+  private void finish(final ScopeTask<?> task) {
+    tasks.remove(task);
+    synchronized (this) {
+      if (--pending == 0)
+        notifyAll();
+    }
+  }
+
+  private void fail(final Throwable t) {
+    synchronized (this) {
+      if (failure != null)
+        return;
+
+      failure = t;
+    }
+
+    executor.recordFailure(t);
+    for (final ScopeTask<?> task : tasks) // [C]
+      task.cancel(true);
+  }
+
+  /**
+   * Waits for all tasks of this scope to complete, or for the first of them to fail, upon which the others are cancelled. In either
+   * case, this method returns only after the {@code run()} of each task that has started has exited.
+   *
+   * @throws InterruptedException If the current thread was interrupted while waiting.
+   * @throws ExecutionException If a task has failed with a checked exception, which is the cause of the {@link ExecutionException}.
+   * @throws RuntimeException If a task has failed with a {@link RuntimeException}.
+   * @throws Error If a task has failed with an {@link Error}.
+   */
+  public void join() throws InterruptedException, ExecutionException {
+    synchronized (this) {
+      while (pending > 0)
+        wait();
+    }
+
+    final Throwable failure = this.failure;
+    if (failure == null)
+      return;
+
+    if (failure instanceof Error)
+      throw (Error)failure;
+
+    if (failure instanceof RuntimeException)
+      throw (RuntimeException)failure;
+
+    throw new ExecutionException(failure);
+  }
+
+  /**
+   * Returns the first failure of a task of this scope, or {@code null} if no task has failed.
+   *
+   * @return The first failure of a task of this scope, or {@code null} if no task has failed.
+   */
+  public Throwable getFailure() {
+    return failure;
+  }
+
+  /**
+   * Closes this scope, cancelling its tasks that have not completed, and waiting for the {@code run()} of each task that has started
+   * to exit, after which no more tasks may be forked. If the current thread is interrupted while waiting, it continues to wait, and
+   * its interrupt status is restored before this method returns.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+    }
+
+    executor.removeCancelListener(cancelListener);
+
+    for (final ScopeTask<?> task : tasks) // [C]
+      task.cancel(true);
+
+    boolean interrupted = false;
+    synchronized (this) {
+      while (pending > 0) {
+        try {
+          wait();
+        }
+        catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+
+    if (interrupted)
+      Thread.currentThread().interrupt();
+  }
+}
@@ -167,6 +167,18 @@ public final class TestAide {
     printStackTrace(out, t, Collections.newSetFromMap(new IdentityHashMap<>()));
   }
 
+  /**
+   * Returns whether the provided {@link StackTraceElement} represents {@code "runReflectiveCall"} of a class in the
+   * {@code "org.junit.runners"} package, beyond which the frames of a backtrace are not relevant to a test.
+   *
+   * @param stackTraceElement The {@link StackTraceElement}.
+   * @return Whether the provided {@link StackTraceElement} represents {@code "runReflectiveCall"} of a class in the
+   *         {@code "org.junit.runners"} package.
+   */
+  static boolean isJUnitBoundary(final StackTraceElement stackTraceElement) {
+    return "runReflectiveCall".equals(stackTraceElement.getMethodName()) && stackTraceElement.getClassName().startsWith("org.junit.runners.");
+  }
+
   private static void printStackTrace(final PrintStream out, final Throwable t, final Set<Throwable> visited) {
     synchronized (t) {
       if (visited.add(t)) {
@@ -174,7 +186,7 @@ public final class TestAide {
         out.println(t.toString());
         final StackTraceElement[] stackTraceElements = t.getStackTrace();
         for (final StackTraceElement stackTraceElement : stackTraceElements) { // [A]
-          if ("runReflectiveCall".equals(stackTraceElement.getMethodName()) && stackTraceElement.getClassName().startsWith("org.junit.runners."))
+          if (isJUnitBoundary(stackTraceElement))
             break;
 
           out.println("\tat " + stackTraceElement);
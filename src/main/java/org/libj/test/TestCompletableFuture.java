@@ -0,0 +1,424 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link CompletionStage} that delegates to a {@link CompletableFuture}, and propagates the failures of its stages to a
+ * {@link TestExecutorService}. Exceptions that are thrown by the functions of the stages of a {@link CompletableFuture} are otherwise
+ * captured in the future, and never reach the wrapper of the executor on which the stages run. Each function that is provided to a
+ * {@link TestCompletableFuture} is wrapped such that an exception it throws is recorded as a failure of the executor, and is rethrown
+ * by {@link TestExecutorService#awaitTermination(long,TimeUnit)} (or cancels the outstanding work of the executor in
+ * {@linkplain TestExecutorService#withFailFast() fail-fast mode}).
+ * <p>
+ * As with the tasks of a {@link TestExecutorService}, a failure is recorded when it is thrown, regardless of whether it is later
+ * handled by a dependent stage, such as {@link #exceptionally(Function)}. Async stages without an explicit {@link Executor} run on the
+ * {@link TestExecutorService}, and every stage that is derived from a {@link TestCompletableFuture} is a {@link TestCompletableFuture}.
+ *
+ * @param <T> The type parameter of the result.
+ */
+public final class TestCompletableFuture<T> implements CompletionStage<T>, Future<T> {
+  /**
+   * Returns a new {@link TestCompletableFuture} that is completed by a task running on the provided {@link TestExecutorService} with
+   * the value obtained by calling the provided {@link Supplier}.
+   *
+   * @param <T> The type parameter of the result.
+   * @param supplier The {@link Supplier} of the value.
+   * @param executor The {@link TestExecutorService}.
+   * @return A new {@link TestCompletableFuture}.
+   * @throws NullPointerException If {@code supplier} or {@code executor} is null.
+   */
+  public static <T> TestCompletableFuture<T> supplyAsync(final Supplier<T> supplier, final TestExecutorService executor) {
+    Objects.requireNonNull(supplier);
+    return new TestCompletableFuture<>(CompletableFuture.supplyAsync(() -> {
+      try {
+        return supplier.get();
+      }
+      catch (final Throwable t) {
+        executor.recordFailure(t);
+        throw t;
+      }
+    }, executor), executor);
+  }
+
+  /**
+   * Returns a new {@link TestCompletableFuture} that is completed by a task running on the provided {@link TestExecutorService} after
+   * it runs the provided {@link Runnable}.
+   *
+   * @param runnable The {@link Runnable}.
+   * @param executor The {@link TestExecutorService}.
+   * @return A new {@link TestCompletableFuture}.
+   * @throws NullPointerException If {@code runnable} or {@code executor} is null.
+   */
+  public static TestCompletableFuture<Void> runAsync(final Runnable runnable, final TestExecutorService executor) {
+    Objects.requireNonNull(runnable);
+    return supplyAsync(() -> {
+      runnable.run();
+      return null;
+    }, executor);
+  }
+
+  /**
+   * Returns a new {@link TestCompletableFuture} that propagates the failures of the stages that are derived from the provided
+   * {@link CompletionStage} to the provided {@link TestExecutorService}.
+   *
+   * @param <T> The type parameter of the result.
+   * @param stage The {@link CompletionStage}.
+   * @param executor The {@link TestExecutorService}.
+   * @return A new {@link TestCompletableFuture}.
+   * @throws NullPointerException If {@code stage} or {@code executor} is null.
+   */
+  public static <T> TestCompletableFuture<T> of(final CompletionStage<T> stage, final TestExecutorService executor) {
+    return new TestCompletableFuture<>(stage.toCompletableFuture(), executor);
+  }
+
+  private final CompletableFuture<T> target;
+  private final TestExecutorService executor;
+
+  private TestCompletableFuture(final CompletableFuture<T> target, final TestExecutorService executor) {
+    this.target = target;
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  private <U> TestCompletableFuture<U> next(final CompletableFuture<U> future) {
+    return new TestCompletableFuture<>(future, executor);
+  }
+
+  private <U,V> Function<U,V> wrapFunction(final Function<U,V> fn) {
+    Objects.requireNonNull(fn);
+    return t -> {
+      try {
+        return fn.apply(t);
+      }
+      catch (final Throwable e) {
+        executor.recordFailure(e);
+        throw e;
+      }
+    };
+  }
+
+  private <U,V,W> BiFunction<U,V,W> wrapBiFunction(final BiFunction<U,V,W> fn) {
+    Objects.requireNonNull(fn);
+    return (t, u) -> {
+      try {
+        return fn.apply(t, u);
+      }
+      catch (final Throwable e) {
+        executor.recordFailure(e);
+        throw e;
+      }
+    };
+  }
+
+  private <U> Consumer<U> wrapConsumer(final Consumer<U> action) {
+    Objects.requireNonNull(action);
+    return t -> {
+      try {
+        action.accept(t);
+      }
+      catch (final Throwable e) {
+        executor.recordFailure(e);
+        throw e;
+      }
+    };
+  }
+
+  private <U,V> BiConsumer<U,V> wrapBiConsumer(final BiConsumer<U,V> action) {
+    Objects.requireNonNull(action);
+    return (t, u) -> {
+      try {
+        action.accept(t, u);
+      }
+      catch (final Throwable e) {
+        executor.recordFailure(e);
+        throw e;
+      }
+    };
+  }
+
+  private Runnable wrapRunnable(final Runnable action) {
+    Objects.requireNonNull(action);
+    return () -> {
+      try {
+        action.run();
+      }
+      catch (final Throwable e) {
+        executor.recordFailure(e);
+        throw e;
+      }
+    };
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> thenApply(final Function<? super T,? extends U> fn) {
+    return next(target.thenApply(wrapFunction(fn)));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> thenApplyAsync(final Function<? super T,? extends U> fn) {
+    return next(target.thenApplyAsync(wrapFunction(fn), executor));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> thenApplyAsync(final Function<? super T,? extends U> fn, final Executor executor) {
+    return next(target.thenApplyAsync(wrapFunction(fn), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> thenAccept(final Consumer<? super T> action) {
+    return next(target.thenAccept(wrapConsumer(action)));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> thenAcceptAsync(final Consumer<? super T> action) {
+    return next(target.thenAcceptAsync(wrapConsumer(action), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> thenAcceptAsync(final Consumer<? super T> action, final Executor executor) {
+    return next(target.thenAcceptAsync(wrapConsumer(action), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> thenRun(final Runnable action) {
+    return next(target.thenRun(wrapRunnable(action)));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> thenRunAsync(final Runnable action) {
+    return next(target.thenRunAsync(wrapRunnable(action), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> thenRunAsync(final Runnable action, final Executor executor) {
+    return next(target.thenRunAsync(wrapRunnable(action), executor));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> thenCompose(final Function<? super T,? extends CompletionStage<U>> fn) {
+    return next(target.thenCompose(wrapFunction(fn)));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> thenComposeAsync(final Function<? super T,? extends CompletionStage<U>> fn) {
+    return next(target.thenComposeAsync(wrapFunction(fn), executor));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> thenComposeAsync(final Function<? super T,? extends CompletionStage<U>> fn, final Executor executor) {
+    return next(target.thenComposeAsync(wrapFunction(fn), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<T> whenComplete(final BiConsumer<? super T,? super Throwable> action) {
+    return next(target.whenComplete(wrapBiConsumer(action)));
+  }
+
+  @Override
+  public TestCompletableFuture<T> whenCompleteAsync(final BiConsumer<? super T,? super Throwable> action) {
+    return next(target.whenCompleteAsync(wrapBiConsumer(action), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<T> whenCompleteAsync(final BiConsumer<? super T,? super Throwable> action, final Executor executor) {
+    return next(target.whenCompleteAsync(wrapBiConsumer(action), executor));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> handle(final BiFunction<? super T,Throwable,? extends U> fn) {
+    return next(target.handle(wrapBiFunction(fn)));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> handleAsync(final BiFunction<? super T,Throwable,? extends U> fn) {
+    return next(target.handleAsync(wrapBiFunction(fn), executor));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> handleAsync(final BiFunction<? super T,Throwable,? extends U> fn, final Executor executor) {
+    return next(target.handleAsync(wrapBiFunction(fn), executor));
+  }
+
+  @Override
+  public <U,V> TestCompletableFuture<V> thenCombine(final CompletionStage<? extends U> other, final BiFunction<? super T,? super U,? extends V> fn) {
+    return next(target.thenCombine(other, wrapBiFunction(fn)));
+  }
+
+  @Override
+  public <U,V> TestCompletableFuture<V> thenCombineAsync(final CompletionStage<? extends U> other, final BiFunction<? super T,? super U,? extends V> fn) {
+    return next(target.thenCombineAsync(other, wrapBiFunction(fn), executor));
+  }
+
+  @Override
+  public <U,V> TestCompletableFuture<V> thenCombineAsync(final CompletionStage<? extends U> other, final BiFunction<? super T,? super U,? extends V> fn, final Executor executor) {
+    return next(target.thenCombineAsync(other, wrapBiFunction(fn), executor));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<Void> thenAcceptBoth(final CompletionStage<? extends U> other, final BiConsumer<? super T,? super U> action) {
+    return next(target.thenAcceptBoth(other, wrapBiConsumer(action)));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<Void> thenAcceptBothAsync(final CompletionStage<? extends U> other, final BiConsumer<? super T,? super U> action) {
+    return next(target.thenAcceptBothAsync(other, wrapBiConsumer(action), executor));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<Void> thenAcceptBothAsync(final CompletionStage<? extends U> other, final BiConsumer<? super T,? super U> action, final Executor executor) {
+    return next(target.thenAcceptBothAsync(other, wrapBiConsumer(action), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> runAfterBoth(final CompletionStage<?> other, final Runnable action) {
+    return next(target.runAfterBoth(other, wrapRunnable(action)));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> runAfterBothAsync(final CompletionStage<?> other, final Runnable action) {
+    return next(target.runAfterBothAsync(other, wrapRunnable(action), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> runAfterBothAsync(final CompletionStage<?> other, final Runnable action, final Executor executor) {
+    return next(target.runAfterBothAsync(other, wrapRunnable(action), executor));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> applyToEither(final CompletionStage<? extends T> other, final Function<? super T,U> fn) {
+    return next(target.applyToEither(other, wrapFunction(fn)));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> applyToEitherAsync(final CompletionStage<? extends T> other, final Function<? super T,U> fn) {
+    return next(target.applyToEitherAsync(other, wrapFunction(fn), executor));
+  }
+
+  @Override
+  public <U> TestCompletableFuture<U> applyToEitherAsync(final CompletionStage<? extends T> other, final Function<? super T,U> fn, final Executor executor) {
+    return next(target.applyToEitherAsync(other, wrapFunction(fn), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> acceptEither(final CompletionStage<? extends T> other, final Consumer<? super T> action) {
+    return next(target.acceptEither(other, wrapConsumer(action)));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> acceptEitherAsync(final CompletionStage<? extends T> other, final Consumer<? super T> action) {
+    return next(target.acceptEitherAsync(other, wrapConsumer(action), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> acceptEitherAsync(final CompletionStage<? extends T> other, final Consumer<? super T> action, final Executor executor) {
+    return next(target.acceptEitherAsync(other, wrapConsumer(action), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> runAfterEither(final CompletionStage<?> other, final Runnable action) {
+    return next(target.runAfterEither(other, wrapRunnable(action)));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> runAfterEitherAsync(final CompletionStage<?> other, final Runnable action) {
+    return next(target.runAfterEitherAsync(other, wrapRunnable(action), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<Void> runAfterEitherAsync(final CompletionStage<?> other, final Runnable action, final Executor executor) {
+    return next(target.runAfterEitherAsync(other, wrapRunnable(action), executor));
+  }
+
+  @Override
+  public TestCompletableFuture<T> exceptionally(final Function<Throwable,? extends T> fn) {
+    return next(target.exceptionally(wrapFunction(fn)));
+  }
+
+  /**
+   * Returns the {@link CompletableFuture} to which this instance delegates. Stages that are derived from the returned
+   * {@link CompletableFuture} do not propagate their failures to the {@link TestExecutorService}.
+   *
+   * @return The {@link CompletableFuture} to which this instance delegates.
+   */
+  @Override
+  public CompletableFuture<T> toCompletableFuture() {
+    return target;
+  }
+
+  /**
+   * Waits if necessary for this future to complete, and then returns its result.
+   *
+   * @return The result of this future.
+   * @see CompletableFuture#join()
+   */
+  public T join() {
+    return target.join();
+  }
+
+  /**
+   * Returns whether this future completed exceptionally.
+   *
+   * @return Whether this future completed exceptionally.
+   * @see CompletableFuture#isCompletedExceptionally()
+   */
+  public boolean isCompletedExceptionally() {
+    return target.isCompletedExceptionally();
+  }
+
+  @Override
+  public boolean cancel(final boolean mayInterruptIfRunning) {
+    return target.cancel(mayInterruptIfRunning);
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return target.isCancelled();
+  }
+
+  @Override
+  public boolean isDone() {
+    return target.isDone();
+  }
+
+  @Override
+  public T get() throws InterruptedException, ExecutionException {
+    return target.get();
+  }
+
+  @Override
+  public T get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+    return target.get(timeout, unit);
+  }
+
+  @Override
+  public String toString() {
+    return target.toString();
+  }
+}
@@ -16,27 +16,363 @@
 
 package org.libj.test;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * An {@link ExecutorService} that propagates exceptions thrown in executed or submitted tasks to the parent thread, in order to
  * facilitate enforcement of test assertions regarding exceptions thrown in multi-threaded executions.
+ * <p>
+ * Failures are captured per instance without locking: the first failure is retained in an atomic slot, and is rethrown by
+ * {@link #awaitTermination(long,TimeUnit)} with up to {@value #MAX_SUPPRESSED} subsequent failures added to it as
+ * {@linkplain Throwable#getSuppressed() suppressed} exceptions.
  */
 public class TestExecutorService implements ExecutorService {
-  protected static final ConcurrentHashMap<Thread,Throwable> exception = new ConcurrentHashMap<>();
+  /** The maximum number of failures subsequent to the first that are retained as suppressed exceptions. */
+  public static final int MAX_SUPPRESSED = 64;
+
+  private static final Method newVirtualThreadPerTaskExecutor;
+
+  static {
+    Method method;
+    try {
+      method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    }
+    catch (final NoSuchMethodException e) {
+      method = null;
+    }
+
+    newVirtualThreadPerTaskExecutor = method;
+  }
+
+  /**
+   * Creates a new {@link TestExecutorService} that runs each task on a new virtual thread, with which a single JVM can drive a very
+   * large number of concurrent tasks. If virtual threads are not available in the runtime (i.e. prior to Java 21), the returned
+   * executor falls back to a {@linkplain Executors#newCachedThreadPool() cached thread pool} of platform threads.
+   *
+   * @return A new {@link TestExecutorService} that runs each task on a new virtual thread.
+   * @see #isVirtual()
+   */
+  public static TestExecutorService newVirtualThreadPerTaskExecutor() {
+    if (newVirtualThreadPerTaskExecutor != null) {
+      try {
+        return new TestExecutorService((ExecutorService)newVirtualThreadPerTaskExecutor.invoke(null), true);
+      }
+      catch (final IllegalAccessException | InvocationTargetException e) {
+        // Virtual threads are a preview feature that is not enabled in this runtime
+      }
+    }
+
+    return new TestExecutorService(Executors.newCachedThreadPool(), false);
+  }
+
+  /**
+   * A {@link FutureTask} of a task submitted in fail-fast mode, which records its failure, and is tracked while outstanding so that
+   * it can be cancelled upon the first failure.
+   */
+  private final class TrackedTask<T> extends FutureTask<T> {
+    private TrackedTask(final Callable<T> callable) {
+      super(callable);
+    }
+
+    private TrackedTask(final Runnable runnable, final T result) {
+      super(runnable, result);
+    }
+
+    @Override
+    public void run() {
+      final Watchdog watchdog = begin();
+      try {
+        super.run();
+      }
+      finally {
+        end(watchdog);
+      }
+    }
+
+    @Override
+    protected void setException(final Throwable t) {
+      // The exception is set before the failure is recorded, so that this task is done when outstanding tasks are cancelled
+      super.setException(t);
+      recordFailure(t);
+    }
+
+    @Override
+    protected void done() {
+      outstanding.remove(this);
+    }
+  }
+
+  /**
+   * Latency and throughput metrics of the tasks of a {@link TestExecutorService}, or of its tasks with a particular tag.
+   *
+   * @see TestExecutorService#withMetrics()
+   * @see TestExecutorService#tag(String,Runnable)
+   */
+  public static final class Metrics {
+    private final Histogram queueTime = new Histogram();
+    private final Histogram runTime = new Histogram();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong firstSubmitted = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastEnded = new AtomicLong(Long.MIN_VALUE);
+
+    private Metrics() {
+    }
+
+    private void record(final long submitted, final long started, final long ended, final boolean success) {
+      queueTime.record(started - submitted);
+      runTime.record(ended - started);
+      (success ? completed : failed).increment();
+      long prev;
+      do
+        prev = firstSubmitted.get();
+      while (submitted < prev && !firstSubmitted.compareAndSet(prev, submitted));
+
+      do
+        prev = lastEnded.get();
+      while (ended > prev && !lastEnded.compareAndSet(prev, ended));
+    }
+
+    /**
+     * Returns the {@link Histogram} of the times in nanoseconds that tasks have waited between their submission and the start of
+     * their execution.
+     *
+     * @return The {@link Histogram} of the times in nanoseconds that tasks have waited to be executed.
+     */
+    public Histogram getQueueTime() {
+      return queueTime;
+    }
+
+    /**
+     * Returns the {@link Histogram} of the times in nanoseconds that tasks have taken to execute.
+     *
+     * @return The {@link Histogram} of the times in nanoseconds that tasks have taken to execute.
+     */
+    public Histogram getRunTime() {
+      return runTime;
+    }
+
+    /**
+     * Returns the number of tasks that have completed normally.
+     *
+     * @return The number of tasks that have completed normally.
+     */
+    public long getCompletedCount() {
+      return completed.sum();
+    }
+
+    /**
+     * Returns the number of tasks that have completed by throwing an exception.
+     *
+     * @return The number of tasks that have completed by throwing an exception.
+     */
+    public long getFailedCount() {
+      return failed.sum();
+    }
+
+    /**
+     * Returns the number of tasks that have completed normally per second, over the interval between the submission of the first task
+     * and the end of the last task.
+     *
+     * @return The number of tasks that have completed normally per second.
+     */
+    public double getThroughput() {
+      final long interval = lastEnded.get() - firstSubmitted.get();
+      return interval <= 0 ? 0 : completed.sum() * 1e9 / interval;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("completed=%d, failed=%d, throughput=%.1f/s, queue={%s}, run={%s}", getCompletedCount(), getFailedCount(), getThroughput(), queueTime.toString(TimeUnit.NANOSECONDS), runTime.toString(TimeUnit.NANOSECONDS));
+    }
+  }
+
+  private static final class TaggedRunnable implements Runnable {
+    private final String tag;
+    private final Runnable task;
+
+    private TaggedRunnable(final String tag, final Runnable task) {
+      this.tag = tag;
+      this.task = task;
+    }
+
+    @Override
+    public void run() {
+      task.run();
+    }
+  }
+
+  private static final class TaggedCallable<T> implements Callable<T> {
+    private final String tag;
+    private final Callable<T> task;
+
+    private TaggedCallable(final String tag, final Callable<T> task) {
+      this.tag = tag;
+      this.task = task;
+    }
+
+    @Override
+    public T call() throws Exception {
+      return task.call();
+    }
+  }
+
+  /**
+   * Returns a {@link Runnable} that runs the provided {@code task}, and whose metrics are additionally recorded under the provided
+   * {@code tag} when executed by a {@link TestExecutorService} {@linkplain #withMetrics() with metrics}.
+   *
+   * @param tag The tag.
+   * @param task The task.
+   * @return A {@link Runnable} that runs the provided {@code task}, and whose metrics are recorded under the provided {@code tag}.
+   * @throws NullPointerException If {@code tag} or {@code task} is null.
+   * @see #getMetrics(String)
+   */
+  public static Runnable tag(final String tag, final Runnable task) {
+    return new TaggedRunnable(Objects.requireNonNull(tag), Objects.requireNonNull(task));
+  }
+
+  /**
+   * Returns a {@link Callable} that calls the provided {@code task}, and whose metrics are additionally recorded under the provided
+   * {@code tag} when executed by a {@link TestExecutorService} {@linkplain #withMetrics() with metrics}.
+   *
+   * @param <T> The type parameter of the result of the task.
+   * @param tag The tag.
+   * @param task The task.
+   * @return A {@link Callable} that calls the provided {@code task}, and whose metrics are recorded under the provided {@code tag}.
+   * @throws NullPointerException If {@code tag} or {@code task} is null.
+   * @see #getMetrics(String)
+   */
+  public static <T> Callable<T> tag(final String tag, final Callable<T> task) {
+    return new TaggedCallable<>(Objects.requireNonNull(tag), Objects.requireNonNull(task));
+  }
+
+  /**
+   * A task that records its {@link Metrics}, and optionally its failure. Being both the wrapper of the task and the record of its
+   * submission time, it is the only object that is allocated for the instrumentation of a task.
+   */
+  private final class InstrumentedTask<T> implements Runnable, Callable<T> {
+    private final Runnable runnable;
+    private final Callable<T> callable;
+    private final Metrics metrics;
+    private final Metrics tagMetrics;
+    private final boolean recordFailure;
+    private final long submitted = System.nanoTime();
+
+    private InstrumentedTask(final Runnable runnable, final Callable<T> callable, final Metrics metrics, final String tag, final boolean recordFailure) {
+      this.runnable = runnable;
+      this.callable = callable;
+      this.metrics = metrics;
+      this.tagMetrics = tag == null ? null : getOrCreateMetrics(tag);
+      this.recordFailure = recordFailure;
+    }
+
+    private void record(final long started, final boolean success) {
+      final long ended = System.nanoTime();
+      metrics.record(submitted, started, ended, success);
+      if (tagMetrics != null)
+        tagMetrics.record(submitted, started, ended, success);
+    }
+
+    @Override
+    public void run() {
+      final Watchdog watchdog = recordFailure ? begin() : null;
+      final long started = System.nanoTime();
+      boolean success = false;
+      try {
+        runnable.run();
+        success = true;
+      }
+      catch (final Throwable t) {
+        if (recordFailure)
+          recordFailure(t);
+
+        throw t;
+      }
+      finally {
+        record(started, success);
+        end(watchdog);
+      }
+    }
+
+    @Override
+    public T call() throws Exception {
+      final Watchdog watchdog = recordFailure ? begin() : null;
+      final long started = System.nanoTime();
+      boolean success = false;
+      try {
+        final T result = callable.call();
+        success = true;
+        return result;
+      }
+      catch (final Throwable t) {
+        if (recordFailure)
+          recordFailure(t);
+
+        throw t;
+      }
+      finally {
+        record(started, success);
+        end(watchdog);
+      }
+    }
+  }
+
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private final ConcurrentLinkedQueue<Throwable> suppressed = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger suppressedCount = new AtomicInteger();
+  private final Set<Future<?>> outstanding = ConcurrentHashMap.newKeySet();
+  /**
+   * A thread that is blocked in {@link TestExecutorService#awaitTermination(long,TimeUnit)}, with whether it has been interrupted by
+   * this executor, which is guarded by the lock of {@link TestExecutorService#waiting}, so that an interrupt is neither delivered
+   * after the thread has stopped waiting, nor confused with an interrupt from another source.
+   */
+  private static final class Waiter {
+    private final Thread thread;
+    private boolean interrupted;
+
+    private Waiter(final Thread thread) {
+      this.thread = thread;
+    }
+  }
+
+  private final ArrayList<Waiter> waiting = new ArrayList<>();
+  private volatile boolean stalled;
+  private final Set<Consumer<Throwable>> cancelListeners = ConcurrentHashMap.newKeySet();
+  private volatile boolean failFast;
+  private volatile Metrics metrics;
+  private volatile Watchdog watchdog;
+  private final ConcurrentHashMap<String,Metrics> tagMetrics = new ConcurrentHashMap<>();
 
   protected ExecutorService target;
-  private final ArrayList<Thread> threads = new ArrayList<>();
+  private final boolean virtual;
+
+  private TestExecutorService(final ExecutorService target, final boolean virtual) {
+    this.target = target;
+    this.virtual = virtual;
+  }
 
   /**
    * Creates a new {@link TestExecutorService} with the provided target {@link ExecutorService}.
@@ -45,21 +381,315 @@ public class TestExecutorService implements ExecutorService {
    * @throws NullPointerException If {@code target} is null.
    */
   public TestExecutorService(final ExecutorService target) {
-    this.target = Objects.requireNonNull(target);
+    this(Objects.requireNonNull(target), false);
   }
 
-  @Override
-  public void execute(final Runnable command) {
-    target.execute(() -> {
-      threads.add(Thread.currentThread());
+  /**
+   * Returns whether the tasks of this executor are run on virtual threads.
+   *
+   * @return Whether the tasks of this executor are run on virtual threads.
+   * @see #newVirtualThreadPerTaskExecutor()
+   */
+  public boolean isVirtual() {
+    return virtual;
+  }
+
+  /**
+   * Enables fail-fast mode, in which the first failure of a task of this executor immediately cancels all outstanding futures,
+   * interrupts the remaining workers by way of {@link ExecutorService#shutdownNow()}, and wakes all threads that are blocked in
+   * {@link #awaitTermination(long,TimeUnit)} or {@link #invokeAll(Collection)}, which then surface the failure. Tasks that are
+   * submitted after the first failure are rejected.
+   * <p>
+   * This method is to be called before tasks are submitted to this executor.
+   *
+   * @return This {@link TestExecutorService} instance.
+   */
+  public TestExecutorService withFailFast() {
+    this.failFast = true;
+    return this;
+  }
+
+  /**
+   * Returns whether this executor is in fail-fast mode.
+   *
+   * @return Whether this executor is in fail-fast mode.
+   * @see #withFailFast()
+   */
+  public boolean isFailFast() {
+    return failFast;
+  }
+
+  /**
+   * Enables a watchdog of the worker threads of this executor, which periodically samples the threads that are running tasks with the
+   * {@link java.lang.management.ThreadMXBean ThreadMXBean}, and detects monitor and ownable synchronizer deadlocks that involve any of
+   * the threads, as well as tasks that have not completed within the provided {@code stallTimeout}. Upon detection, an
+   * {@link AssertionError} with a dump of the stacks of only the relevant threads is recorded as a failure, and the threads that are
+   * blocked in {@link #awaitTermination(long,TimeUnit)} are woken to throw it. As in
+   * {@link TestAide#printStackTrace(java.io.PrintStream,Throwable)}, the stacks are trimmed of the frames of JUnit and of this
+   * executor.
+   * <p>
+   * This method is to be called before tasks are submitted to this executor. The watchdog stops when this executor terminates, upon
+   * {@link #shutdownNow()}, or once this executor is no longer reachable.
+   *
+   * @param stallTimeout The time after which a running task is considered to be stalled.
+   * @param unit The {@link TimeUnit} of {@code stallTimeout}.
+   * @return This {@link TestExecutorService} instance.
+   * @throws IllegalArgumentException If {@code stallTimeout} is not positive.
+   * @throws IllegalStateException If a watchdog is already enabled for this executor.
+   */
+  public TestExecutorService withWatchdog(final long stallTimeout, final TimeUnit unit) {
+    if (stallTimeout <= 0)
+      throw new IllegalArgumentException("stallTimeout (" + stallTimeout + ") must be positive");
+
+    if (watchdog != null)
+      throw new IllegalStateException("Watchdog is already enabled");
+
+    final Watchdog watchdog = new Watchdog(unit.toNanos(stallTimeout), this);
+    this.watchdog = watchdog;
+    watchdog.start();
+    return this;
+  }
+
+  /**
+   * Records the provided {@link AssertionError} of a deadlock or stall that was detected by the watchdog of this executor, and wakes
+   * the threads that are blocked in {@link #awaitTermination(long,TimeUnit)} to throw it.
+   */
+  void onWatchdog(final AssertionError e) {
+    // A deadlocked or stalled task may never exit, and thus the waiting threads are not to wait for the termination of the target
+    stalled = true;
+    recordFailure(e);
+    interruptWaiting();
+  }
+
+  private void interruptWaiting() {
+    synchronized (waiting) {
+      for (int i = 0, i$ = waiting.size(); i < i$; ++i) { // [RA]
+        final Waiter waiter = waiting.get(i);
+        waiter.interrupted = true;
+        waiter.thread.interrupt();
+      }
+    }
+  }
+
+  private Watchdog begin() {
+    final Watchdog watchdog = this.watchdog;
+    if (watchdog != null)
+      watchdog.begin();
+
+    return watchdog;
+  }
+
+  private static void end(final Watchdog watchdog) {
+    if (watchdog != null)
+      watchdog.end();
+  }
+
+  /**
+   * Enables the recording of {@link Metrics} of the tasks of this executor: the time each task waits between its submission and the
+   * start of its execution, the time it takes to execute, and whether it completes normally. Tasks that are
+   * {@linkplain #tag(String,Runnable) tagged} are additionally recorded in the {@link Metrics} of their tag. Recording is lock-free,
+   * and does not allocate beyond the wrapper of each task.
+   * <p>
+   * This method is to be called before tasks are submitted to this executor.
+   *
+   * @return This {@link TestExecutorService} instance.
+   * @see #getMetrics()
+   * @see #getMetrics(String)
+   */
+  public TestExecutorService withMetrics() {
+    if (metrics == null)
+      metrics = new Metrics();
+
+    return this;
+  }
+
+  /**
+   * Returns the {@link Metrics} of the tasks of this executor, or {@code null} if this executor is not
+   * {@linkplain #withMetrics() with metrics}.
+   *
+   * @return The {@link Metrics} of the tasks of this executor, or {@code null} if this executor is not with metrics.
+   */
+  public Metrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Returns the {@link Metrics} of the tasks of this executor with the provided {@code tag}, or {@code null} if no such task has been
+   * submitted to this executor {@linkplain #withMetrics() with metrics}.
+   *
+   * @param tag The tag.
+   * @return The {@link Metrics} of the tasks of this executor with the provided {@code tag}, or {@code null} if no such task has been
+   *         submitted.
+   * @see #tag(String,Runnable)
+   * @see #tag(String,Callable)
+   */
+  public Metrics getMetrics(final String tag) {
+    return tagMetrics.get(tag);
+  }
+
+  private Metrics getOrCreateMetrics(final String tag) {
+    final Metrics metrics = tagMetrics.get(tag);
+    return metrics != null ? metrics : tagMetrics.computeIfAbsent(tag, k -> new Metrics());
+  }
+
+  private Runnable instrument(final Runnable task, final boolean recordFailure) {
+    final Metrics metrics = this.metrics;
+    return metrics == null ? task : new InstrumentedTask<>(task, null, metrics, task instanceof TaggedRunnable ? ((TaggedRunnable)task).tag : null, recordFailure);
+  }
+
+  private <T> Callable<T> instrument(final Callable<T> task, final boolean recordFailure) {
+    final Metrics metrics = this.metrics;
+    return metrics == null ? task : new InstrumentedTask<>(null, task, metrics, task instanceof TaggedCallable ? ((TaggedCallable<?>)task).tag : null, recordFailure);
+  }
+
+  /**
+   * Records the provided {@link Throwable} as a failure of a task of this executor. The first failure occupies the failure slot, and
+   * subsequent failures are retained as suppressed exceptions, up to {@value #MAX_SUPPRESSED}. In fail-fast mode, the first failure
+   * cancels all outstanding work of this executor.
+   *
+   * @param t The {@link Throwable}.
+   */
+  void recordFailure(final Throwable t) {
+    if (failure.compareAndSet(null, t)) {
+      if (failFast)
+        cancel();
+    }
+    else if (failure.get() != t && suppressedCount.getAndIncrement() < MAX_SUPPRESSED) {
+      suppressed.add(t);
+    }
+  }
+
+  /**
+   * Adds a listener that is notified of the first failure of a task of this executor in fail-fast mode, before the tasks that are
+   * queued in the target {@link ExecutorService} are discarded, such that the owner of tasks that were executed as plain
+   * {@link Runnable}s (e.g. a {@link TaskScope}) can cancel them.
+   */
+  void addCancelListener(final Consumer<Throwable> listener) {
+    cancelListeners.add(listener);
+  }
+
+  void removeCancelListener(final Consumer<Throwable> listener) {
+    cancelListeners.remove(listener);
+  }
+
+  private void cancel() {
+    // Futures are cancelled before the workers are interrupted, so that they do not complete exceptionally with interruption
+    for (final Future<?> future : outstanding) // [S]
+      future.cancel(true);
+
+    final Throwable t = failure.get();
+    for (final Consumer<Throwable> listener : cancelListeners) // [S]
+      listener.accept(t);
+
+    target.shutdownNow();
+    interruptWaiting();
+  }
+
+  private <T> Future<T> submit(final TrackedTask<T> task) {
+    outstanding.add(task);
+    // A task that is added after the first failure was recorded may have been missed by cancel()
+    if (failure.get() != null) {
+      task.cancel(false);
+      throw new RejectedExecutionException("Executor has failed", failure.get());
+    }
+
+    try {
+      target.execute(task);
+    }
+    catch (final RuntimeException e) {
+      outstanding.remove(task);
+      throw e;
+    }
+
+    return task;
+  }
+
+  private <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks, final boolean timed, final long nanos) throws InterruptedException {
+    final long deadline = timed ? System.nanoTime() + nanos : 0;
+    final ArrayList<Future<T>> futures = new ArrayList<>(tasks.size());
+    boolean done = false;
+    try {
+      for (final Callable<T> task : tasks) // [C]
+        futures.add(submit(new TrackedTask<>(instrument(Objects.requireNonNull(task), false))));
+
+      for (int i = 0, i$ = futures.size(); i < i$; ++i) { // [RA]
+        final Future<T> future = futures.get(i);
+        if (!future.isDone()) {
+          try {
+            if (timed)
+              future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            else
+              future.get();
+          }
+          catch (final CancellationException | ExecutionException e) {
+          }
+          catch (final TimeoutException e) {
+            return futures;
+          }
+        }
+      }
+
+      done = true;
+      return futures;
+    }
+    finally {
+      if (!done)
+        for (int i = 0, i$ = futures.size(); i < i$; ++i) // [RA]
+          futures.get(i).cancel(true);
+    }
+  }
+
+  private Runnable wrap(final Runnable task) {
+    Objects.requireNonNull(task);
+    if (metrics != null)
+      return instrument(task, true);
+
+    return () -> {
+      final Watchdog watchdog = begin();
       try {
-        command.run();
+        task.run();
+      }
+      catch (final Throwable t) {
+        recordFailure(t);
+        throw t;
+      }
+      finally {
+        end(watchdog);
+      }
+    };
+  }
+
+  private <T> Callable<T> wrap(final Callable<T> task) {
+    Objects.requireNonNull(task);
+    if (metrics != null)
+      return instrument(task, true);
+
+    return () -> {
+      final Watchdog watchdog = begin();
+      try {
+        return task.call();
       }
       catch (final Throwable t) {
-        exception.put(Thread.currentThread(), t);
+        recordFailure(t);
         throw t;
       }
-    });
+      finally {
+        end(watchdog);
+      }
+    };
+  }
+
+  private <T> ArrayList<Callable<T>> wrap(final Collection<? extends Callable<T>> tasks) {
+    final ArrayList<Callable<T>> callables = new ArrayList<>(tasks);
+    for (int i = 0, i$ = callables.size(); i < i$; ++i) // [RA]
+      callables.set(i, wrap(callables.get(i)));
+
+    return callables;
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    target.execute(wrap(command));
   }
 
   @Override
@@ -69,6 +699,10 @@ public class TestExecutorService implements ExecutorService {
 
   @Override
   public List<Runnable> shutdownNow() {
+    final Watchdog watchdog = this.watchdog;
+    if (watchdog != null)
+      watchdog.stop();
+
     return target.shutdownNow();
   }
 
@@ -84,162 +718,143 @@ public class TestExecutorService implements ExecutorService {
 
   @Override
   public <T> Future<T> submit(final Callable<T> task) {
-    return target.submit(() -> {
-      threads.add(Thread.currentThread());
-      try {
-        return task.call();
-      }
-      catch (final Throwable t) {
-        exception.put(Thread.currentThread(), t);
-        throw t;
-      }
-    });
+    if (failFast)
+      return submit(new TrackedTask<>(instrument(Objects.requireNonNull(task), false)));
+
+    return target.submit(wrap(task));
   }
 
   @Override
   public <T> Future<T> submit(final Runnable task, final T result) {
-    return target.submit(() -> {
-      threads.add(Thread.currentThread());
-      try {
-        task.run();
-      }
-      catch (final Throwable t) {
-        exception.put(Thread.currentThread(), t);
-        throw t;
-      }
-    }, result);
+    if (failFast)
+      return submit(new TrackedTask<>(instrument(Objects.requireNonNull(task), false), result));
+
+    return target.submit(wrap(task), result);
   }
 
   @Override
   public Future<?> submit(final Runnable task) {
-    return target.submit(() -> {
-      threads.add(Thread.currentThread());
-      try {
-        task.run();
-      }
-      catch (final Throwable t) {
-        exception.put(Thread.currentThread(), t);
-        throw t;
-      }
-    });
+    if (failFast)
+      return submit(new TrackedTask<>(instrument(Objects.requireNonNull(task), false), null));
+
+    return target.submit(wrap(task));
   }
 
   @Override
   public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks) throws InterruptedException {
-    final ArrayList<Callable<T>> callables = new ArrayList<>(tasks);
-    for (int i = 0, i$ = callables.size(); i < i$; ++i) { // [RA]
-      final Callable<T> task = callables.get(i);
-      callables.set(i, new Callable<T>() {
-        @Override
-        public T call() throws Exception {
-          threads.add(Thread.currentThread());
-          try {
-            return task.call();
-          }
-          catch (final Throwable t) {
-            exception.put(Thread.currentThread(), t);
-            throw t;
-          }
-        }
-      });
-    }
+    if (failFast)
+      return invokeAll(tasks, false, 0);
 
-    return target.invokeAll(callables);
+    return target.invokeAll(wrap(tasks));
   }
 
   @Override
   public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks, final long timeout, final TimeUnit unit) throws InterruptedException {
-    final ArrayList<Callable<T>> callables = new ArrayList<>(tasks);
-    for (int i = 0, i$ = callables.size(); i < i$; ++i) { // [RA]
-      final Callable<T> task = callables.get(i);
-      callables.set(i, new Callable<T>() {
-        @Override
-        public T call() throws Exception {
-          threads.add(Thread.currentThread());
-          try {
-            return task.call();
-          }
-          catch (final Throwable t) {
-            exception.put(Thread.currentThread(), t);
-            throw t;
-          }
-        }
-      });
-    }
+    if (failFast)
+      return invokeAll(tasks, true, unit.toNanos(timeout));
 
-    return target.invokeAll(callables, timeout, unit);
+    return target.invokeAll(wrap(tasks), timeout, unit);
   }
 
   @Override
   public <T> T invokeAny(final Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
-    final ArrayList<Callable<T>> callables = new ArrayList<>(tasks);
-    for (int i = 0, i$ = callables.size(); i < i$; ++i) { // [RA]
-      final Callable<T> task = callables.get(i);
-      callables.set(i, new Callable<T>() {
-        @Override
-        public T call() throws Exception {
-          threads.add(Thread.currentThread());
-          try {
-            return task.call();
-          }
-          catch (final Throwable t) {
-            exception.put(Thread.currentThread(), t);
-            throw t;
-          }
-        }
-      });
-    }
-
-    return target.invokeAny(callables);
+    return target.invokeAny(wrap(tasks));
   }
 
   @Override
   public <T> T invokeAny(final Collection<? extends Callable<T>> tasks, final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-    final ArrayList<Callable<T>> callables = new ArrayList<>(tasks);
-    for (int i = 0, i$ = callables.size(); i < i$; ++i) { // [RA]
-      final Callable<T> task = callables.get(i);
-      callables.set(i, new Callable<T>() {
-        @Override
-        public T call() throws Exception {
-          threads.add(Thread.currentThread());
-          try {
-            return task.call();
-          }
-          catch (final Throwable t) {
-            exception.put(Thread.currentThread(), t);
-            throw t;
-          }
-        }
-      });
-    }
+    return target.invokeAny(wrap(tasks), timeout, unit);
+  }
 
-    return target.invokeAny(callables, timeout, unit);
+  /**
+   * Returns the first failure of a task of this executor, or {@code null} if no task has failed.
+   *
+   * @return The first failure of a task of this executor, or {@code null} if no task has failed.
+   */
+  public Throwable getFailure() {
+    return failure.get();
   }
 
+  /**
+   * Blocks until all tasks have completed execution after a shutdown request, or the timeout occurs, or the current thread is
+   * interrupted, whichever happens first. If a task of this executor has failed, the first failure is thrown with subsequent failures
+   * added to it as {@linkplain Throwable#getSuppressed() suppressed} exceptions. A failure that is neither an {@link Error} nor a
+   * {@link RuntimeException} is thrown as the cause of an {@link InterruptedException}. In fail-fast mode, this method is woken by
+   * the first failure, upon which it waits (within the timeout) for the interrupted workers to exit, so that no task of this executor
+   * runs after it returns. With a watchdog, this method returns as soon as a deadlock or stall is detected, as the tasks involved may
+   * never exit. An interrupt of the current thread by this executor is cleared before this method returns, whereas an interrupt from
+   * any other source is thrown as an {@link InterruptedException}.
+   *
+   * @param timeout The maximum time to wait.
+   * @param unit The time unit of the timeout argument.
+   * @return {@code true} if this executor terminated and {@code false} if the timeout elapsed before termination.
+   * @throws InterruptedException If interrupted while waiting, or if a task of this executor has failed with a checked exception.
+   */
   @Override
   public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
-    final boolean result = target.awaitTermination(timeout, unit);
-    for (int i = 0, i$ = threads.size(); i < i$; ++i) { // [RA]
-      final Thread thread = threads.get(i);
-      if (thread != null) {
-        final Throwable t = exception.get(thread);
-        if (t != null) {
-          if (t instanceof Error)
-            throw (Error)t;
-
-          if (t instanceof RuntimeException)
-            throw (RuntimeException)t;
-
-          if (t instanceof InterruptedException)
-            throw (InterruptedException)t;
-
-          final InterruptedException e = new InterruptedException();
-          e.initCause(t);
-          throw e;
+    boolean result;
+    if (failFast || watchdog != null) {
+      final Waiter waiter = new Waiter(Thread.currentThread());
+      synchronized (waiting) {
+        waiting.add(waiter);
+      }
+
+      try {
+        long nanos = unit.toNanos(timeout);
+        final long deadline = System.nanoTime() + nanos;
+        while (true) {
+          if (stalled) {
+            result = target.isTerminated();
+            break;
+          }
+
+          try {
+            result = target.awaitTermination(nanos, TimeUnit.NANOSECONDS);
+            break;
+          }
+          catch (final InterruptedException e) {
+            synchronized (waiting) {
+              if (!waiter.interrupted)
+                throw e;
+
+              waiter.interrupted = false;
+            }
+
+            nanos = deadline - System.nanoTime();
+          }
+        }
+      }
+      finally {
+        synchronized (waiting) {
+          waiting.remove(waiter);
+          // An interrupt of this executor that was delivered after the wait is cleared, under the lock by which no other is delivered
+          if (waiter.interrupted)
+            Thread.interrupted();
         }
       }
     }
+    else {
+      result = target.awaitTermination(timeout, unit);
+    }
+
+    final Throwable t = failure.get();
+    if (t == null)
+      return result;
+
+    for (Throwable s; (s = suppressed.poll()) != null;)
+      t.addSuppressed(s);
+
+    if (t instanceof Error)
+      throw (Error)t;
+
+    if (t instanceof RuntimeException)
+      throw (RuntimeException)t;
+
+    if (t instanceof InterruptedException)
+      throw (InterruptedException)t;
 
-    return result;
+    final InterruptedException e = new InterruptedException();
+    e.initCause(t);
+    throw e;
   }
-}
\ No newline at end of file
+}
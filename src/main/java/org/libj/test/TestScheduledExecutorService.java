@@ -0,0 +1,362 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link TestExecutorService} that implements {@link ScheduledExecutorService} with a virtual clock. Scheduled tasks do not fire
+ * in real time, but when the clock is {@linkplain #advance(long,TimeUnit) advanced} past their scheduled time, upon which they run on
+ * the wrapped {@link ExecutorService} in timestamp order (and in the order of scheduling for equal timestamps), with the exception
+ * propagation of {@link TestExecutorService}. Tests of timeouts, retries with backoff, and periodic flushers thereby run in
+ * milliseconds of wall time, and deterministically.
+ * <p>
+ * The clock starts at {@code 0}, and does not move while scheduled tasks run: all tasks that are due at the same timestamp are run
+ * concurrently, and {@link #advance(long,TimeUnit)} waits for them to complete before it moves the clock to the next timestamp. A
+ * task that is scheduled by a running task fires during the same advance if it is due before its end. Tasks that are executed or
+ * submitted without a delay run immediately, as with {@link TestExecutorService}.
+ * <p>
+ * Upon {@link #shutdown()}, periodic tasks are cancelled, and delayed tasks are retained until they fire, after which the wrapped
+ * executor is shut down.
+ * <p>
+ * Times saturate at {@link Long#MAX_VALUE} nanoseconds, as with {@link java.util.concurrent.ScheduledThreadPoolExecutor
+ * ScheduledThreadPoolExecutor}: a task that is scheduled with a delay such as {@code Long.MAX_VALUE} is never due, and is cancelled
+ * upon {@link #shutdown()}.
+ */
+public class TestScheduledExecutorService extends TestExecutorService implements ScheduledExecutorService {
+  /** The time of tasks that are due at or beyond the end of the virtual clock, which never run. */
+  private static final long NEVER = Long.MAX_VALUE;
+
+  private final class ScheduledTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+    private final long sequence;
+    private final long period;
+    private long time;
+
+    private ScheduledTask(final Callable<V> callable, final long time, final long sequence) {
+      super(callable);
+      this.time = time;
+      this.period = 0;
+      this.sequence = sequence;
+    }
+
+    private ScheduledTask(final Runnable runnable, final long time, final long period, final long sequence) {
+      super(runnable, null);
+      this.time = time;
+      this.period = period;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return period != 0;
+    }
+
+    @Override
+    public long getDelay(final TimeUnit unit) {
+      return unit.convert(time - clock, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(final Delayed o) {
+      if (o == this)
+        return 0;
+
+      if (o instanceof ScheduledTask) {
+        final ScheduledTask<?> that = (ScheduledTask<?>)o;
+        final int c = Long.compare(time, that.time);
+        return c != 0 ? c : Long.compare(sequence, that.sequence);
+      }
+
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void run() {
+      if (!isPeriodic()) {
+        super.run();
+      }
+      else if (runAndReset()) {
+        // Fixed-rate tasks are due a period after their scheduled time, and fixed-delay tasks a period after they complete
+        time = period > 0 ? add(time, period) : add(clock, -period);
+        synchronized (TestScheduledExecutorService.this) {
+          if (!isCancelled() && !shutdown)
+            queue.add(this);
+        }
+      }
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+      final boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        synchronized (TestScheduledExecutorService.this) {
+          queue.remove(this);
+        }
+      }
+
+      return cancelled;
+    }
+
+    @Override
+    protected void setException(final Throwable t) {
+      super.setException(t);
+      recordFailure(t);
+    }
+  }
+
+  /**
+   * Returns the sum of the provided non-negative times in nanoseconds, saturated at {@link #NEVER}, as with the trigger time of
+   * {@link java.util.concurrent.ScheduledThreadPoolExecutor ScheduledThreadPoolExecutor}.
+   */
+  private static long add(final long time, final long delay) {
+    final long sum = time + delay;
+    return sum < 0 ? NEVER : sum;
+  }
+
+  private final PriorityQueue<ScheduledTask<?>> queue = new PriorityQueue<>();
+  private final Object advanceLock = new Object();
+  private volatile long clock;
+  private long sequence;
+  private boolean shutdown;
+
+  /**
+   * Creates a new {@link TestScheduledExecutorService} that runs scheduled tasks on the provided {@link ExecutorService} when they
+   * are due by its virtual clock.
+   *
+   * @param target The target {@link ExecutorService}.
+   * @throws NullPointerException If {@code target} is null.
+   */
+  public TestScheduledExecutorService(final ExecutorService target) {
+    super(target);
+  }
+
+  @Override
+  public TestScheduledExecutorService withFailFast() {
+    super.withFailFast();
+    return this;
+  }
+
+  @Override
+  public TestScheduledExecutorService withWatchdog(final long stallTimeout, final TimeUnit unit) {
+    super.withWatchdog(stallTimeout, unit);
+    return this;
+  }
+
+  @Override
+  public TestScheduledExecutorService withMetrics() {
+    super.withMetrics();
+    return this;
+  }
+
+  /**
+   * Returns the time of the virtual clock of this executor in the provided {@link TimeUnit}.
+   *
+   * @param unit The {@link TimeUnit}.
+   * @return The time of the virtual clock of this executor in the provided {@link TimeUnit}.
+   */
+  public long now(final TimeUnit unit) {
+    return unit.convert(clock, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns the number of scheduled tasks that have not yet fired.
+   *
+   * @return The number of scheduled tasks that have not yet fired.
+   */
+  public synchronized int getQueueSize() {
+    return queue.size();
+  }
+
+  /**
+   * Advances the virtual clock of this executor by the provided {@code delay}, running the scheduled tasks that become due in
+   * timestamp order, and returns when they have completed. This method must not be called from a task of this executor.
+   *
+   * @param delay The time by which to advance the virtual clock.
+   * @param unit The {@link TimeUnit} of {@code delay}.
+   * @throws IllegalArgumentException If {@code delay} is negative.
+   * @throws InterruptedException If the current thread is interrupted while waiting for the due tasks to complete.
+   */
+  public void advance(final long delay, final TimeUnit unit) throws InterruptedException {
+    if (delay < 0)
+      throw new IllegalArgumentException("delay (" + delay + ") is negative");
+
+    synchronized (advanceLock) {
+      final long end = add(clock, unit.toNanos(delay));
+      final ArrayList<ScheduledTask<?>> due = new ArrayList<>();
+      while (true) {
+        synchronized (this) {
+          final ScheduledTask<?> head = queue.peek();
+          if (head == null || head.time > end || head.time == NEVER || getFailure() != null && isFailFast())
+            break;
+
+          clock = head.time;
+          while (queue.size() > 0 && queue.peek().time == clock)
+            due.add(queue.poll());
+        }
+
+        run(due);
+        due.clear();
+      }
+
+      synchronized (this) {
+        if (getFailure() != null && isFailFast())
+          cancelAll();
+
+        clock = end;
+        if (shutdown && queue.isEmpty())
+          super.shutdown();
+      }
+    }
+  }
+
+  private void run(final ArrayList<ScheduledTask<?>> due) throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(due.size());
+    for (int i = 0, i$ = due.size(); i < i$; ++i) { // [RA]
+      final ScheduledTask<?> task = due.get(i);
+      try {
+        super.execute(() -> {
+          try {
+            task.run();
+          }
+          finally {
+            latch.countDown();
+          }
+        });
+      }
+      catch (final RejectedExecutionException e) {
+        latch.countDown();
+        task.cancel(false);
+        if (getFailure() == null)
+          throw e;
+      }
+    }
+
+    // In fail-fast mode, the tasks that are queued in the wrapped executor are discarded upon the first failure
+    while (!latch.await(10, TimeUnit.MILLISECONDS))
+      if (getFailure() != null && isFailFast() && super.isTerminated())
+        return;
+  }
+
+  private void cancelAll() {
+    final ArrayList<ScheduledTask<?>> tasks = new ArrayList<>(queue);
+    queue.clear();
+    for (int i = 0, i$ = tasks.size(); i < i$; ++i) // [RA]
+      tasks.get(i).cancel(false);
+  }
+
+  private synchronized <V> ScheduledTask<V> schedule(final ScheduledTask<V> task) {
+    if (shutdown)
+      throw new RejectedExecutionException("Executor is shut down");
+
+    queue.add(task);
+    return task;
+  }
+
+  private long timeOf(final long delay, final TimeUnit unit) {
+    return add(clock, Math.max(0, unit.toNanos(delay)));
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+    Objects.requireNonNull(command);
+    synchronized (this) {
+      return schedule(new ScheduledTask<>(command, timeOf(delay, unit), 0, sequence++));
+    }
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+    Objects.requireNonNull(callable);
+    synchronized (this) {
+      return schedule(new ScheduledTask<>(callable, timeOf(delay, unit), sequence++));
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay, final long period, final TimeUnit unit) {
+    Objects.requireNonNull(command);
+    if (period <= 0)
+      throw new IllegalArgumentException("period (" + period + ") must be positive");
+
+    synchronized (this) {
+      return schedule(new ScheduledTask<>(command, timeOf(initialDelay, unit), unit.toNanos(period), sequence++));
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay, final long delay, final TimeUnit unit) {
+    Objects.requireNonNull(command);
+    if (delay <= 0)
+      throw new IllegalArgumentException("delay (" + delay + ") must be positive");
+
+    synchronized (this) {
+      return schedule(new ScheduledTask<>(command, timeOf(initialDelay, unit), -unit.toNanos(delay), sequence++));
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    synchronized (this) {
+      shutdown = true;
+      final ArrayList<ScheduledTask<?>> tasks = new ArrayList<>(queue);
+      for (int i = 0, i$ = tasks.size(); i < i$; ++i) { // [RA]
+        final ScheduledTask<?> task = tasks.get(i);
+        // Tasks that never fire would defer the shutdown of the wrapped executor indefinitely
+        if (task.isPeriodic() || task.time == NEVER) {
+          queue.remove(task);
+          task.cancel(false);
+        }
+      }
+
+      if (!queue.isEmpty())
+        return;
+    }
+
+    super.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    final ArrayList<Runnable> tasks;
+    synchronized (this) {
+      shutdown = true;
+      tasks = new ArrayList<>(queue);
+      queue.clear();
+    }
+
+    tasks.addAll(super.shutdownNow());
+    return tasks;
+  }
+
+  @Override
+  public synchronized boolean isShutdown() {
+    return shutdown || super.isShutdown();
+  }
+}
@@ -0,0 +1,243 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A watchdog of the worker threads of a {@link TestExecutorService}, which periodically samples the threads that are running its
+ * tasks with the {@link ThreadMXBean}, and reports an {@link AssertionError} with a dump of the relevant stacks upon detection of a
+ * deadlock that involves any of the threads, or of a task that has not completed within the stall timeout.
+ * <p>
+ * The watchdog stops upon detection, upon the termination or {@linkplain TestExecutorService#shutdownNow() forced shutdown} of the
+ * executor, or once the executor is no longer reachable, as it holds the executor weakly, so that an executor that is never shut
+ * down does not retain a sampler on the shared scheduler.
+ *
+ * @see TestExecutorService#withWatchdog(long,TimeUnit)
+ */
+final class Watchdog {
+  private static final long MIN_PERIOD = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long MAX_PERIOD = TimeUnit.SECONDS.toNanos(1);
+  private static final String executorClassName = TestExecutorService.class.getName();
+
+  private static final class Scheduler {
+    private static final ScheduledThreadPoolExecutor instance = new ScheduledThreadPoolExecutor(1, r -> {
+      final Thread thread = new Thread(r, "TestExecutorService-watchdog");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    static {
+      instance.setRemoveOnCancelPolicy(true);
+    }
+  }
+
+  private final ConcurrentHashMap<Thread,Long> running = new ConcurrentHashMap<>();
+  // The depth of the tracked tasks of each thread, of which a task that is run within another task (e.g. by CallerRunsPolicy) is nested
+  private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+  private final long stallNanos;
+  private final WeakReference<TestExecutorService> executor;
+  private ScheduledFuture<?> future;
+
+  /**
+   * Creates a new {@link Watchdog}.
+   *
+   * @param stallNanos The time in nanoseconds after which a running task is considered to be stalled.
+   * @param executor The {@link TestExecutorService}, which is held weakly, and whose
+   *          {@link TestExecutorService#onWatchdog(AssertionError)} is called, at most once, with the {@link AssertionError} of a
+   *          detected deadlock or stall.
+   */
+  Watchdog(final long stallNanos, final TestExecutorService executor) {
+    this.stallNanos = stallNanos;
+    this.executor = new WeakReference<>(executor);
+  }
+
+  /**
+   * Starts sampling the running tasks.
+   */
+  synchronized void start() {
+    final long period = Math.min(MAX_PERIOD, Math.max(MIN_PERIOD, stallNanos / 4));
+    future = Scheduler.instance.scheduleWithFixedDelay(this::sample, period, period, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Stops sampling the running tasks.
+   */
+  synchronized void stop() {
+    if (future != null)
+      future.cancel(false);
+  }
+
+  /**
+   * Registers the current thread as running a task. The stall time of nested tasks is measured from the start of the outermost task.
+   */
+  void begin() {
+    if (depth.get()[0]++ == 0)
+      running.put(Thread.currentThread(), System.nanoTime());
+  }
+
+  /**
+   * Unregisters the current thread as running a task, once the outermost task of the thread has ended.
+   */
+  void end() {
+    if (--depth.get()[0] == 0)
+      running.remove(Thread.currentThread());
+  }
+
+  private void sample() {
+    final TestExecutorService executor = this.executor.get();
+    if (executor == null || executor.isTerminated()) {
+      stop();
+      return;
+    }
+
+    if (running.isEmpty())
+      return;
+
+    final ThreadMXBean mxBean = ManagementFactory.getThreadMXBean();
+    final boolean synchronizers = mxBean.isSynchronizerUsageSupported();
+    final long[] deadlocked = synchronizers ? mxBean.findDeadlockedThreads() : mxBean.findMonitorDeadlockedThreads();
+    final LinkedHashMap<Long,Thread> threads = new LinkedHashMap<>();
+    final long now = System.nanoTime();
+    final String message;
+    if (deadlocked != null && (message = deadlock(mxBean, synchronizers, deadlocked, threads)) != null) {
+      stop();
+      executor.onWatchdog(new AssertionError(message));
+      return;
+    }
+
+    for (final Map.Entry<Thread,Long> entry : running.entrySet()) // [S]
+      if (now - entry.getValue() > stallNanos)
+        threads.put(entry.getKey().getId(), entry.getKey());
+
+    if (threads.size() > 0) {
+      stop();
+      final StringBuilder builder = new StringBuilder();
+      builder.append(threads.size()).append(threads.size() == 1 ? " task" : " tasks").append(" of TestExecutorService did not complete within ").append(TimeUnit.NANOSECONDS.toMillis(stallNanos)).append("ms:\n");
+      dump(builder, mxBean, synchronizers, threads);
+      executor.onWatchdog(new AssertionError(builder.toString()));
+    }
+  }
+
+  /**
+   * Returns the message of a deadlock among the provided {@code deadlocked} thread ids that involves a running task, or {@code null}
+   * if no such deadlock exists. Only the threads of the deadlock cycles that are reachable from the running tasks are reported.
+   */
+  private String deadlock(final ThreadMXBean mxBean, final boolean synchronizers, final long[] deadlocked, final LinkedHashMap<Long,Thread> threads) {
+    final HashMap<Long,ThreadInfo> infos = new HashMap<>();
+    for (final ThreadInfo info : mxBean.getThreadInfo(deadlocked)) // [A]
+      if (info != null)
+        infos.put(info.getThreadId(), info);
+
+    final HashMap<Long,Thread> tracked = new HashMap<>();
+    for (final Thread thread : running.keySet()) // [S]
+      tracked.put(thread.getId(), thread);
+
+    for (final Long id : infos.keySet()) { // [S]
+      if (tracked.containsKey(id)) {
+        // Follow the chain of lock owners from the running task
+        for (ThreadInfo info = infos.get(id); info != null && !threads.containsKey(info.getThreadId()); info = infos.get(info.getLockOwnerId())) // [N]
+          threads.put(info.getThreadId(), tracked.get(info.getThreadId()));
+      }
+    }
+
+    if (threads.size() == 0)
+      return null;
+
+    final StringBuilder builder = new StringBuilder();
+    builder.append("Deadlock detected among ").append(threads.size()).append(" threads of TestExecutorService:\n");
+    dump(builder, mxBean, synchronizers, threads);
+    return builder.toString();
+  }
+
+  private static void dump(final StringBuilder builder, final ThreadMXBean mxBean, final boolean synchronizers, final LinkedHashMap<Long,Thread> threads) {
+    final long[] ids = new long[threads.size()];
+    final ArrayList<Thread> list = new ArrayList<>(threads.size());
+    int index = 0;
+    for (final Map.Entry<Long,Thread> entry : threads.entrySet()) { // [S]
+      ids[index++] = entry.getKey();
+      list.add(entry.getValue());
+    }
+
+    final ThreadInfo[] infos = mxBean.getThreadInfo(ids, mxBean.isObjectMonitorUsageSupported(), synchronizers);
+    for (int i = 0; i < infos.length; ++i) { // [A]
+      final ThreadInfo info = infos[i];
+      if (info != null) {
+        dump(builder, info);
+      }
+      else if (list.get(i) != null) {
+        // Virtual threads are not visible to the ThreadMXBean
+        final Thread thread = list.get(i);
+        builder.append('"').append(thread.getName()).append("\" ").append(thread.getState()).append('\n');
+        dump(builder, thread.getStackTrace(), null);
+      }
+
+      builder.append('\n');
+    }
+  }
+
+  private static void dump(final StringBuilder builder, final ThreadInfo info) {
+    builder.append('"').append(info.getThreadName()).append("\" #").append(info.getThreadId()).append(' ').append(info.getThreadState());
+    if (info.getLockName() != null)
+      builder.append(" on ").append(info.getLockName());
+
+    if (info.getLockOwnerName() != null)
+      builder.append(" owned by \"").append(info.getLockOwnerName()).append("\" #").append(info.getLockOwnerId());
+
+    builder.append('\n');
+    dump(builder, info.getStackTrace(), info);
+    final LockInfo[] synchronizers = info.getLockedSynchronizers();
+    if (synchronizers.length > 0) {
+      builder.append("\tLocked synchronizers:\n");
+      for (final LockInfo synchronizer : synchronizers) // [A]
+        builder.append("\t- ").append(synchronizer).append('\n');
+    }
+  }
+
+  /**
+   * Appends the provided stack trace, terminated at the first frame of {@link TestExecutorService} (below which are the frames of
+   * the executor), or of {@code "runReflectiveCall"} of JUnit (as in {@link TestAide#printStackTrace(java.io.PrintStream,Throwable)}).
+   */
+  private static void dump(final StringBuilder builder, final StackTraceElement[] stackTrace, final ThreadInfo info) {
+    final MonitorInfo[] monitors = info == null ? null : info.getLockedMonitors();
+    for (int i = 0; i < stackTrace.length; ++i) { // [A]
+      final StackTraceElement element = stackTrace[i];
+      final String className = element.getClassName();
+      if (className.startsWith(executorClassName) && (className.length() == executorClassName.length() || className.charAt(executorClassName.length()) == '$') || TestAide.isJUnitBoundary(element))
+        break;
+
+      builder.append("\tat ").append(element).append('\n');
+      if (monitors != null)
+        for (final MonitorInfo monitor : monitors) // [A]
+          if (monitor.getLockedStackDepth() == i)
+            builder.append("\t- locked ").append(monitor).append('\n');
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+/**
+ * A bounded LRU cache of compiled {@link XPathExpression}s, keyed by expression string and {@link NamespaceContext}, which is shared
+ * by all {@link AssertXml} instances.
+ * <p>
+ * Since neither {@link XPath} nor {@link XPathExpression} are thread safe, each thread is confined to its own {@link XPath} instance
+ * and its own cache of up to {@value #CAPACITY} expressions. The hit and miss counters are aggregated across all threads.
+ */
+public final class XPathCache {
+  static final int CAPACITY = 256;
+
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+
+  private static final class Key {
+    private final String expression;
+    private final NamespaceContext namespaceContext;
+    private final int hashCode;
+
+    private Key(final String expression, final NamespaceContext namespaceContext) {
+      this.expression = expression;
+      this.namespaceContext = namespaceContext;
+      this.hashCode = 31 * expression.hashCode() + namespaceContext.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this)
+        return true;
+
+      if (!(obj instanceof Key))
+        return false;
+
+      final Key that = (Key)obj;
+      return expression.equals(that.expression) && namespaceContext.equals(that.namespaceContext);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private static final ThreadLocal<XPathCache> instance = new ThreadLocal<XPathCache>() {
+    @Override
+    protected XPathCache initialValue() {
+      return new XPathCache();
+    }
+  };
+
+  /**
+   * Returns the compiled {@link XPathExpression} for the provided {@code expression} and {@code namespaceContext}, compiling it with
+   * the current thread's {@link XPath} instance if it is not present in the current thread's cache.
+   *
+   * @param expression The XPath expression.
+   * @param namespaceContext The {@link NamespaceContext} with which to resolve prefixes in the {@code expression}.
+   * @return The compiled {@link XPathExpression} for the provided {@code expression} and {@code namespaceContext}.
+   * @throws XPathExpressionException If the {@code expression} cannot be compiled.
+   * @throws NullPointerException If {@code expression} or {@code namespaceContext} is null.
+   */
+  static XPathExpression compile(final String expression, final NamespaceContext namespaceContext) throws XPathExpressionException {
+    return instance.get().get(new Key(expression, namespaceContext));
+  }
+
+  /**
+   * Returns the number of lookups that were satisfied by a previously compiled {@link XPathExpression}.
+   *
+   * @return The number of lookups that were satisfied by a previously compiled {@link XPathExpression}.
+   */
+  public static long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of lookups that required the compilation of an {@link XPathExpression}.
+   *
+   * @return The number of lookups that required the compilation of an {@link XPathExpression}.
+   */
+  public static long getMissCount() {
+    return misses.get();
+  }
+
+  private final XPath xPath = XPathFactory.newInstance().newXPath();
+  private final LinkedHashMap<Key,XPathExpression> expressions = new LinkedHashMap<Key,XPathExpression>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<Key,XPathExpression> eldest) {
+      return size() > CAPACITY;
+    }
+  };
+
+  private XPathExpression get(final Key key) throws XPathExpressionException {
+    XPathExpression expression = expressions.get(key);
+    if (expression != null) {
+      hits.incrementAndGet();
+      return expression;
+    }
+
+    misses.incrementAndGet();
+    xPath.setNamespaceContext(key.namespaceContext);
+    expressions.put(key, expression = xPath.compile(key.expression));
+    return expression;
+  }
+
+  private XPathCache() {
+  }
+}
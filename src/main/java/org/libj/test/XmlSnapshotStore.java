@@ -0,0 +1,447 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Objects;
+
+import org.junit.ComparisonFailure;
+import org.openjax.xml.dom.DOMStyle;
+import org.openjax.xml.dom.DOMs;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+import org.xml.sax.SAXException;
+
+/**
+ * A store of golden-file snapshots for {@link AssertXml}, which retains the DOM tree of each {@code control} document in a compact
+ * binary encoding on disk, so that repeated runs skip the parsing of unchanged golden files.
+ * <p>
+ * Snapshots are addressed by the SHA-256 hash of the content of their golden file, such that a modified golden file invalidates its
+ * snapshot implicitly, and the snapshot of the previous content of a golden file is deleted when the snapshot of its new content is
+ * stored. A snapshot that cannot be decoded (e.g. one that is truncated, or of an older format) is disregarded, and replaced by a
+ * snapshot of the parsed golden file. In the default file system, both the golden files (for hashing) and the snapshots are read via
+ * memory-mapped {@link FileChannel}s, and in other file systems, they are read into heap buffers.
+ * <p>
+ * In "update" mode, an assertion that fails rewrites the golden file with the {@code test} element, instead of throwing. The update
+ * mode is enabled by the {@value #UPDATE_PROPERTY} system property, or explicitly by
+ * {@link #XmlSnapshotStore(Path,boolean)}.
+ */
+public final class XmlSnapshotStore {
+  /** The system property that enables the "update" mode, i.e. {@code -Dorg.libj.test.updateSnapshots=true}. */
+  public static final String UPDATE_PROPERTY = "org.libj.test.updateSnapshots";
+
+  private static final int MAGIC = 0x4c4a5853; // "LJXS"
+  private static final byte VERSION = 1;
+
+  private static final byte ELEMENT = 1;
+  private static final byte TEXT = 2;
+  private static final byte CDATA = 3;
+  private static final byte COMMENT = 4;
+  private static final byte PROCESSING_INSTRUCTION = 5;
+
+  private static final char[] hexChars = "0123456789abcdef".toCharArray();
+
+  private final Path dir;
+  private final boolean update;
+
+  /**
+   * Creates a new {@link XmlSnapshotStore} in the provided directory, with the "update" mode enabled by the {@value #UPDATE_PROPERTY}
+   * system property.
+   *
+   * @param dir The directory in which snapshots are stored.
+   * @throws NullPointerException If {@code dir} is null.
+   */
+  public XmlSnapshotStore(final Path dir) {
+    this(dir, Boolean.getBoolean(UPDATE_PROPERTY));
+  }
+
+  /**
+   * Creates a new {@link XmlSnapshotStore} in the provided directory.
+   *
+   * @param dir The directory in which snapshots are stored.
+   * @param update If {@code true}, failed assertions rewrite their golden files, otherwise they throw a {@link ComparisonFailure}.
+   * @throws NullPointerException If {@code dir} is null.
+   */
+  public XmlSnapshotStore(final Path dir, final boolean update) {
+    this.dir = Objects.requireNonNull(dir);
+    this.update = update;
+  }
+
+  /**
+   * Returns a new DOM tree of the document element of the provided golden file, decoded from its snapshot if one exists, or otherwise
+   * parsed from the golden file, whereupon a snapshot is stored.
+   *
+   * @param golden The golden file.
+   * @return A new DOM tree of the document element of the provided golden file.
+   * @throws IOException If an I/O error has occurred, or if the golden file cannot be parsed.
+   * @throws NullPointerException If {@code golden} is null.
+   */
+  public Element getControl(final Path golden) throws IOException {
+    final Path snapshot = snapshotOf(golden);
+    try {
+      return decode(read(snapshot));
+    }
+    catch (final NoSuchFileException e) {
+    }
+    catch (final IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | NegativeArraySizeException | DOMException e) {
+      // The snapshot is truncated, or of an older format, and is replaced by a snapshot of the parsed golden file
+    }
+
+    final Element control;
+    try {
+      control = Documents.parse(golden);
+    }
+    catch (final SAXException e) {
+      throw new IOException("Unable to parse " + golden, e);
+    }
+
+    store(snapshot, control);
+    return control;
+  }
+
+  /**
+   * Assert equality of the {@code control} element of the provided golden file and the {@code test} element. If they are not, a
+   * {@link ComparisonFailure} without a message is thrown, unless this store is in "update" mode, in which case the golden file is
+   * rewritten with the {@code test} element.
+   *
+   * @param golden The golden file.
+   * @param test The test element.
+   * @throws ComparisonFailure If the {@code control} and {@code test} elements are not equal, and this store is not in "update" mode.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code golden} or {@code test} is null.
+   */
+  public void assertEqual(final Path golden, final Element test) throws IOException {
+    assertEqual(null, golden, test);
+  }
+
+  /**
+   * Assert equality of the {@code control} element of the provided golden file and the {@code test} element. If they are not, a
+   * {@link ComparisonFailure} is thrown with the given message, unless this store is in "update" mode, in which case the golden file
+   * is rewritten with the {@code test} element.
+   *
+   * @param message The identifying message for the {@link ComparisonFailure} (null is okay).
+   * @param golden The golden file.
+   * @param test The test element.
+   * @throws ComparisonFailure If the {@code control} and {@code test} elements are not equal, and this store is not in "update" mode.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code golden} or {@code test} is null.
+   */
+  public void assertEqual(final String message, final Path golden, final Element test) throws IOException {
+    if (update && !Files.exists(golden)) {
+      update(golden, test);
+      return;
+    }
+
+    try {
+      AssertXml.compare(getControl(golden), test).assertEqual(message);
+    }
+    catch (final AssertionError | IllegalArgumentException e) {
+      // An IllegalArgumentException is thrown if the prefixes of the control and test elements differ
+      if (!update)
+        throw e;
+
+      update(golden, test);
+    }
+  }
+
+  private void update(final Path golden, final Element test) throws IOException {
+    final Path parent = golden.toAbsolutePath().getParent();
+    if (parent != null)
+      Files.createDirectories(parent);
+
+    Files.write(golden, DOMs.domToString(test, DOMStyle.INDENT, DOMStyle.INDENT_ATTRS).getBytes(StandardCharsets.UTF_8));
+    store(snapshotOf(golden), test);
+  }
+
+  /**
+   * Returns the path of the snapshot of the provided golden file, named {@code <path>.<content>.bin}, where {@code <path>} is the
+   * hash of the absolute path of the golden file, by which the snapshots of its previous contents are found, and {@code <content>} is
+   * the hash of its content.
+   */
+  private Path snapshotOf(final Path golden) throws IOException {
+    return dir.resolve(pathHash(golden) + "." + hash(golden) + ".bin");
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    }
+    catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String pathHash(final Path golden) {
+    final byte[] bytes = sha256().digest(golden.toAbsolutePath().normalize().toUri().toString().getBytes(StandardCharsets.UTF_8));
+    return toHex(bytes, 8);
+  }
+
+  private static String toHex(final byte[] bytes, final int length) {
+    final char[] chars = new char[length * 2];
+    for (int i = 0; i < length; ++i) { // [A]
+      chars[2 * i] = hexChars[(bytes[i] >> 4) & 0xf];
+      chars[2 * i + 1] = hexChars[bytes[i] & 0xf];
+    }
+
+    return new String(chars);
+  }
+
+  private static boolean isDefault(final Path file) {
+    return file.getFileSystem() == FileSystems.getDefault();
+  }
+
+  /**
+   * Returns a read-only {@link ByteBuffer} of the content of the provided file, which is memory-mapped in the default file system.
+   */
+  private static ByteBuffer read(final Path file) throws IOException {
+    if (!isDefault(file))
+      return ByteBuffer.wrap(Files.readAllBytes(file)).asReadOnlyBuffer();
+
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  private static String hash(final Path file) throws IOException {
+    final MessageDigest digest = sha256();
+    if (isDefault(file)) {
+      try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        final long size = channel.size();
+        for (long position = 0; position < size; position += Integer.MAX_VALUE) // [N]
+          digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(Integer.MAX_VALUE, size - position)));
+      }
+    }
+    else {
+      try (final InputStream in = Files.newInputStream(file)) {
+        final byte[] buffer = new byte[8192];
+        for (int read; (read = in.read(buffer)) != -1;) // [N]
+          digest.update(buffer, 0, read);
+      }
+    }
+
+    final byte[] bytes = digest.digest();
+    return toHex(bytes, bytes.length);
+  }
+
+  // The encoding is written to a temporary file that is then moved into place, so that concurrent test JVMs never observe a partial
+  // snapshot.
+  private void store(final Path snapshot, final Element element) throws IOException {
+    final HashMap<String,Integer> stringToIndex = new HashMap<>();
+    final ArrayList<String> strings = new ArrayList<>();
+    index(element, stringToIndex, strings);
+
+    Files.createDirectories(dir);
+    final Path temp = Files.createTempFile(dir, snapshot.getFileName().toString(), ".tmp");
+    try {
+      try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(strings.size());
+        for (int i = 0, i$ = strings.size(); i < i$; ++i) { // [RA]
+          final byte[] bytes = strings.get(i).getBytes(StandardCharsets.UTF_8);
+          out.writeInt(bytes.length);
+          out.write(bytes);
+        }
+
+        encode(element, stringToIndex, out);
+      }
+
+      try {
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      catch (final AtomicMoveNotSupportedException e) {
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+
+    // Delete the snapshots of the previous contents of the golden file
+    final String fileName = snapshot.getFileName().toString();
+    try (final DirectoryStream<Path> stale = Files.newDirectoryStream(dir, fileName.substring(0, fileName.indexOf('.') + 1) + "*.bin")) {
+      for (final Path path : stale) // [I]
+        if (!path.getFileName().toString().equals(fileName))
+          Files.deleteIfExists(path);
+    }
+  }
+
+  private static void index(final String value, final HashMap<String,Integer> stringToIndex, final ArrayList<String> strings) {
+    if (value != null && !stringToIndex.containsKey(value)) {
+      stringToIndex.put(value, strings.size());
+      strings.add(value);
+    }
+  }
+
+  private static void index(final Node node, final HashMap<String,Integer> stringToIndex, final ArrayList<String> strings) {
+    switch (node.getNodeType()) {
+      case Node.ELEMENT_NODE:
+        index(node.getNamespaceURI(), stringToIndex, strings);
+        index(node.getNodeName(), stringToIndex, strings);
+        final NamedNodeMap attributes = node.getAttributes();
+        for (int i = 0, i$ = attributes.getLength(); i < i$; ++i) { // [RA]
+          final Node attribute = attributes.item(i);
+          index(attribute.getNamespaceURI(), stringToIndex, strings);
+          index(attribute.getNodeName(), stringToIndex, strings);
+          index(attribute.getNodeValue(), stringToIndex, strings);
+        }
+
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling())
+          index(child, stringToIndex, strings);
+
+        break;
+      case Node.TEXT_NODE:
+      case Node.CDATA_SECTION_NODE:
+      case Node.COMMENT_NODE:
+        index(node.getNodeValue(), stringToIndex, strings);
+        break;
+      case Node.PROCESSING_INSTRUCTION_NODE:
+        index(((ProcessingInstruction)node).getTarget(), stringToIndex, strings);
+        index(((ProcessingInstruction)node).getData(), stringToIndex, strings);
+        break;
+    }
+  }
+
+  private static int indexOf(final String value, final HashMap<String,Integer> stringToIndex) {
+    return value == null ? -1 : stringToIndex.get(value);
+  }
+
+  private static void encode(final Node node, final HashMap<String,Integer> stringToIndex, final DataOutputStream out) throws IOException {
+    switch (node.getNodeType()) {
+      case Node.ELEMENT_NODE:
+        out.writeByte(ELEMENT);
+        out.writeInt(indexOf(node.getNamespaceURI(), stringToIndex));
+        out.writeInt(indexOf(node.getNodeName(), stringToIndex));
+        final NamedNodeMap attributes = node.getAttributes();
+        final int length = attributes.getLength();
+        out.writeInt(length);
+        for (int i = 0; i < length; ++i) { // [RA]
+          final Node attribute = attributes.item(i);
+          out.writeInt(indexOf(attribute.getNamespaceURI(), stringToIndex));
+          out.writeInt(indexOf(attribute.getNodeName(), stringToIndex));
+          out.writeInt(indexOf(attribute.getNodeValue(), stringToIndex));
+        }
+
+        int children = 0;
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling())
+          if (isEncoded(child))
+            ++children;
+
+        out.writeInt(children);
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling())
+          if (isEncoded(child))
+            encode(child, stringToIndex, out);
+
+        break;
+      case Node.TEXT_NODE:
+        out.writeByte(TEXT);
+        out.writeInt(indexOf(node.getNodeValue(), stringToIndex));
+        break;
+      case Node.CDATA_SECTION_NODE:
+        out.writeByte(CDATA);
+        out.writeInt(indexOf(node.getNodeValue(), stringToIndex));
+        break;
+      case Node.COMMENT_NODE:
+        out.writeByte(COMMENT);
+        out.writeInt(indexOf(node.getNodeValue(), stringToIndex));
+        break;
+      case Node.PROCESSING_INSTRUCTION_NODE:
+        out.writeByte(PROCESSING_INSTRUCTION);
+        out.writeInt(indexOf(((ProcessingInstruction)node).getTarget(), stringToIndex));
+        out.writeInt(indexOf(((ProcessingInstruction)node).getData(), stringToIndex));
+        break;
+      default:
+        throw new IllegalStateException("Unexpected node type: " + node.getNodeType());
+    }
+  }
+
+  private static boolean isEncoded(final Node node) {
+    final short nodeType = node.getNodeType();
+    return nodeType == Node.ELEMENT_NODE || nodeType == Node.TEXT_NODE || nodeType == Node.CDATA_SECTION_NODE || nodeType == Node.COMMENT_NODE || nodeType == Node.PROCESSING_INSTRUCTION_NODE;
+  }
+
+  private static Element decode(final ByteBuffer buffer) throws IOException {
+    if (buffer.getInt() != MAGIC || buffer.get() != VERSION)
+      throw new IOException("Unrecognized snapshot format");
+
+    final String[] strings = new String[buffer.getInt()];
+    for (int i = 0; i < strings.length; ++i) { // [A]
+      final int length = buffer.getInt();
+      final ByteBuffer slice = buffer.slice();
+      slice.limit(length);
+      strings[i] = StandardCharsets.UTF_8.decode(slice).toString();
+      buffer.position(buffer.position() + length);
+    }
+
+    final Document document = Documents.newDocument();
+    final Element element = (Element)decode(document, buffer, strings);
+    document.appendChild(element);
+    return element;
+  }
+
+  private static String string(final String[] strings, final int index) {
+    return index == -1 ? null : strings[index];
+  }
+
+  private static Node decode(final Document document, final ByteBuffer buffer, final String[] strings) throws IOException {
+    final byte type = buffer.get();
+    switch (type) {
+      case ELEMENT:
+        final Element element = document.createElementNS(string(strings, buffer.getInt()), strings[buffer.getInt()]);
+        for (int i = 0, i$ = buffer.getInt(); i < i$; ++i) // [N]
+          element.setAttributeNS(string(strings, buffer.getInt()), strings[buffer.getInt()], strings[buffer.getInt()]);
+
+        for (int i = 0, i$ = buffer.getInt(); i < i$; ++i) // [N]
+          element.appendChild(decode(document, buffer, strings));
+
+        return element;
+      case TEXT:
+        return document.createTextNode(strings[buffer.getInt()]);
+      case CDATA:
+        return document.createCDATASection(strings[buffer.getInt()]);
+      case COMMENT:
+        return document.createComment(strings[buffer.getInt()]);
+      case PROCESSING_INSTRUCTION:
+        return document.createProcessingInstruction(strings[buffer.getInt()], string(strings, buffer.getInt()));
+      default:
+        throw new IOException("Unrecognized node type in snapshot: " + type);
+    }
+  }
+}
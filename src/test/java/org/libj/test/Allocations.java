@@ -0,0 +1,56 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assume.*;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the heap allocation of the current thread, by which tests assert the improvements of optimized code paths.
+ */
+final class Allocations {
+  private static final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+  /**
+   * Returns the number of bytes allocated by the current thread, or skips the calling test if the JVM does not measure allocation.
+   *
+   * @return The number of bytes allocated by the current thread.
+   */
+  static long allocatedBytes() {
+    assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+    final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean)threadMXBean;
+    assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+    return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Returns the number of bytes allocated by the provided {@link Runnable}, after it has been run once to warm up.
+   *
+   * @param runnable The {@link Runnable}.
+   * @return The number of bytes allocated by the provided {@link Runnable}.
+   */
+  static long allocatedBytes(final Runnable runnable) {
+    runnable.run();
+    final long start = allocatedBytes();
+    runnable.run();
+    return allocatedBytes() - start;
+  }
+
+  private Allocations() {
+  }
+}
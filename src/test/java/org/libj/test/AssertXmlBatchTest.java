@@ -0,0 +1,89 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AssertXmlBatchTest {
+  private Path controlDir;
+  private Path testDir;
+
+  private static void write(final Path dir, final String name, final String xml) throws IOException {
+    Files.write(dir.resolve(name), xml.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Before
+  public void before() throws IOException {
+    controlDir = Files.createTempDirectory("control");
+    testDir = Files.createTempDirectory("test");
+    for (int i = 0; i < 20; ++i) { // [N]
+      write(controlDir, i + ".xml", "<ns:a xmlns:ns=\"urn:test\"><ns:b>" + i + "</ns:b></ns:a>");
+      write(testDir, i + ".xml", "<ns:a xmlns:ns=\"urn:test\"><ns:b>" + -i + "</ns:b></ns:a>");
+    }
+  }
+
+  @After
+  public void after() throws IOException {
+    for (final Path dir : new Path[] {controlDir, testDir}) { // [A]
+      try (final Stream<Path> paths = Files.walk(dir)) {
+        paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+      }
+    }
+  }
+
+  @Test
+  public void testEqual() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      new AssertXmlBatch(executor).addDirectories(controlDir, testDir).assertEqual();
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testNotEqual() throws Exception {
+    write(testDir, "3.xml", "<ns:a xmlns:ns=\"urn:test\"><ns:c/></ns:a>");
+    write(testDir, "7.xml", "<ns:a xmlns:ns=\"urn:test\">");
+    write(controlDir, "extra.xml", "<ns:a xmlns:ns=\"urn:test\"/>");
+    try {
+      new AssertXmlBatch().addDirectories(controlDir, testDir).add("single", controlDir.resolve("1.xml"), testDir.resolve("1.xml")).assertEqual();
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("3 of 22 XML comparisons failed:"));
+      assertTrue(e.getMessage(), e.getMessage().contains("\n  3.xml: 3.xml"));
+      assertTrue(e.getMessage(), e.getMessage().contains("\n  7.xml: "));
+      assertTrue(e.getMessage(), e.getMessage().contains("\n  extra.xml: Missing in "));
+      assertEquals(2, e.getSuppressed().length);
+    }
+  }
+}
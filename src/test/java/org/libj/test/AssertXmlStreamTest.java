@@ -0,0 +1,78 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+
+public class AssertXmlStreamTest {
+  private static final String control = "<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b>foo</ns:b><!--c--><ns:b x=\"y\"/></ns:a>";
+
+  private static InputStream in(final String xml) {
+    return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void assertFailure(final String test, final String xPath) throws Exception {
+    try {
+      AssertXmlStream.compare(in(control), in(test)).assertEqual("message");
+      fail("Expected ComparisonFailure");
+    }
+    catch (final ComparisonFailure e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("message: Difference at " + xPath + " "));
+    }
+  }
+
+  @Test
+  public void testEqual() throws Exception {
+    AssertXmlStream.compare(in(control), in(control)).assertEqual();
+    AssertXmlStream.compare(in(control), in("<ns:a xmlns:ns=\"urn:test\" id=\"2\">\n  <ns:b>bar</ns:b>\n  <!--c-->\n  <ns:b x=\"z\"/>\n</ns:a>")).assertEqual();
+    AssertXmlStream.compare(in(control), in("<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b><![CDATA[foo]]></ns:b><!--c--><ns:b x=\"y\"/></ns:a>")).assertEqual();
+  }
+
+  @Test
+  public void testNotEqual() throws Exception {
+    assertFailure("<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b>foo</ns:b><!--c--><ns:c x=\"y\"/></ns:a>", "/a[1]/b[2]");
+    assertFailure("<ns:a xmlns:ns=\"urn:other\" id=\"1\"><ns:b>foo</ns:b><!--c--><ns:b x=\"y\"/></ns:a>", "/a[1]");
+    assertFailure("<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b>foo</ns:b><!--d--><ns:b x=\"y\"/></ns:a>", "/a[1]/comment()[1]");
+    assertFailure("<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b>foo</ns:b><!--c--><ns:b/></ns:a>", "/a[1]/b[2]");
+    assertFailure("<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b>foo</ns:b><!--c--></ns:a>", "/a[1]");
+    assertFailure("<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b>foo</ns:b><!--c--><ns:b x=\"y\"><ns:d/></ns:b></ns:a>", "/a[1]/b[2]");
+  }
+
+  @Test
+  public void testPath() throws Exception {
+    final Path control = Files.createTempFile("control", ".xml");
+    final Path test = Files.createTempFile("test", ".xml");
+    try {
+      Files.write(control, AssertXmlStreamTest.control.getBytes(StandardCharsets.UTF_8));
+      Files.write(test, AssertXmlStreamTest.control.replace("foo", "bar").getBytes(StandardCharsets.UTF_8));
+      AssertXmlStream.compare(control, test).assertEqual();
+    }
+    finally {
+      Files.delete(control);
+      Files.delete(test);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+public class AssertXmlTest {
+  static Element parse(final String xml) {
+    try {
+      final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setNamespaceAware(true);
+      return factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))).getDocumentElement();
+    }
+    catch (final Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final String control = "<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b>foo</ns:b><ns:c x=\"y\"/></ns:a>";
+
+  @Test
+  public void testEqual() {
+    AssertXml.compare(parse(control), parse(control)).assertEqual();
+  }
+
+  @Test
+  public void testIdentical() {
+    final Element element = parse(control);
+    AssertXml.compare(element, element).assertEqual();
+    AssertXml.compare(element, (Element)element.cloneNode(true)).assertEqual();
+  }
+
+  @Test
+  public void testEqualWhitespace() {
+    AssertXml.compare(parse(control), parse("<ns:a xmlns:ns=\"urn:test\" id=\"1\">\n  <ns:b>foo</ns:b>\n  <ns:c x=\"y\"/>\n</ns:a>")).assertEqual();
+  }
+
+  @Test
+  public void testIgnoreText() {
+    AssertXml.compare(parse(control), parse("<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b>bar</ns:b><ns:c x=\"y\"/></ns:a>")).assertEqual();
+  }
+
+  @Test
+  public void testIgnoreAttrValue() {
+    AssertXml.compare(parse(control), parse("<ns:a xmlns:ns=\"urn:test\" id=\"2\"><ns:b>foo</ns:b><ns:c x=\"z\"/></ns:a>")).assertEqual();
+  }
+
+  @Test
+  public void testNotEqual() {
+    try {
+      AssertXml.compare(parse(control), parse("<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b>foo</ns:b><ns:d x=\"y\"/></ns:a>")).assertEqual("message");
+      fail("Expected ComparisonFailure");
+    }
+    catch (final ComparisonFailure e) {
+      assertTrue(e.getMessage().startsWith("message"));
+      assertTrue(e.getExpected().contains("ns:c"));
+      assertTrue(e.getActual().contains("ns:d"));
+    }
+  }
+
+  @Test
+  public void testRemove() throws Exception {
+    AssertXml.compare(parse(control), parse("<ns:a xmlns:ns=\"urn:test\" id=\"1\"><ns:b>foo</ns:b></ns:a>")).removeFromControl("/ns:a/ns:c").assertEqual();
+  }
+
+  @Test
+  public void testRemoveNestedPrefix() throws Exception {
+    final String nested = "<ns:a xmlns:ns=\"urn:test\"><ns:b xmlns:x=\"urn:x\"><x:c/><x:d/></ns:b></ns:a>";
+    AssertXml.compare(parse(nested), parse("<ns:a xmlns:ns=\"urn:test\"><ns:b xmlns:x=\"urn:x\"><x:c/></ns:b></ns:a>")).removeFromControl("/ns:a/ns:b/x:d").assertEqual();
+  }
+
+  @Test
+  public void testIsIgnorable() {
+    final Pattern attrPattern = Pattern.compile("^.*/@[:a-z]+$");
+    final String[] xPaths = {"", "/", "@", "/@", "/@a", "@a", "a/@a", "/a[1]/@id", "/a[1]/@xsi:type", "/a[1]/@Id", "/a[1]/@i-d", "/a[1]/b[1]", "/a[1]/@id/b[1]", "/a[1]/b@id", "/a[1]/text()[1]", "/a[1]/@:", "//@@a"};
+    for (final String xPath : xPaths) // [A]
+      assertEquals(xPath, attrPattern.matcher(xPath).matches() || xPath.contains("text()"), AssertXml.isIgnorable(xPath));
+  }
+
+  @Test
+  public void testIsIgnorableAllocation() {
+    // The classification that preceded isIgnorable(String), which rewrote each XPath with the prefix of the control root element
+    final Pattern namePattern = Pattern.compile("/([^@])");
+    final Pattern attrPattern = Pattern.compile("^.*/@[:a-z]+$");
+    final String[] xPaths = {"/a[1]/b[2]/c[3]/@id", "/a[1]/b[2]/c[3]/text()[1]", "/a[1]/b[2]/c[3]", "/a[1]/b[2]/@xsi:type"};
+    final int iterations = 20000;
+    final boolean[] sink = new boolean[1];
+    final Runnable regex = () -> {
+      for (int i = 0; i < iterations; ++i) { // [N]
+        for (final String xPath : xPaths) { // [A]
+          final String controlXPath = namePattern.matcher(xPath).replaceAll("/ns:$1");
+          sink[0] ^= attrPattern.matcher(controlXPath).matches() || controlXPath.contains("text()");
+        }
+      }
+    };
+
+    final Runnable scan = () -> {
+      for (int i = 0; i < iterations; ++i) // [N]
+        for (final String xPath : xPaths) // [A]
+          sink[0] ^= AssertXml.isIgnorable(xPath);
+    };
+
+    // The scan allocates nothing (the measurement itself allocates a few bytes), whereas the regular expressions allocate a Matcher, a
+    // StringBuilder and a String per XPath
+    final long scanBytes = Allocations.allocatedBytes(scan);
+    final long regexBytes = Allocations.allocatedBytes(regex);
+    assertTrue("scan allocated " + scanBytes + " bytes", scanBytes < iterations);
+    assertTrue("regex allocated " + regexBytes + " bytes", regexBytes > iterations * xPaths.length * 64L);
+  }
+}
@@ -0,0 +1,110 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+import org.libj.lang.Classes;
+
+public class DeclarativeOrderCacheTest {
+  private static Method[] methods() {
+    return new TestClass(DeclarativeOrderTestClassTest.class).getAnnotatedMethods(Test.class).stream().map(FrameworkMethod::getMethod).toArray(Method[]::new);
+  }
+
+  @Test
+  public void testPersistence() throws Exception {
+    final Path file = Files.createTempFile("declarative-order", ".idx");
+    try {
+      Files.delete(file);
+
+      final Method[] methods = methods();
+      final Method[] expected = methods.clone();
+      Classes.sortDeclarativeOrder(expected, true);
+
+      final DeclarativeOrderCache cache = new DeclarativeOrderCache(file);
+      final Method[] first = methods.clone();
+      cache.sort(DeclarativeOrderTestClassTest.class, "all", first);
+      assertEquals(1, cache.getMisses());
+      assertArrayEquals(expected, first);
+
+      final Method[] second = methods.clone();
+      cache.sort(DeclarativeOrderTestClassTest.class, "all", second);
+      assertEquals(1, cache.getMisses());
+      assertArrayEquals(first, second);
+
+      List<String> lines = Files.readAllLines(file);
+      assertEquals(1, lines.size());
+      assertTrue(lines.get(0), lines.get(0).startsWith(DeclarativeOrderTestClassTest.class.getName() + "|all|"));
+
+      // A new JVM reads the order from the index
+      final DeclarativeOrderCache reloaded = new DeclarativeOrderCache(file);
+      final Method[] third = methods.clone();
+      reloaded.sort(DeclarativeOrderTestClassTest.class, "all", third);
+      assertEquals(0, reloaded.getMisses());
+      assertArrayEquals(first, third);
+
+      // A different set of methods is not served from the cache, and does not replace the order of the full set
+      final Method[] subset = new Method[] {first[1], first[0]};
+      reloaded.sort(DeclarativeOrderTestClassTest.class, "all", subset);
+      assertEquals(1, reloaded.getMisses());
+      assertArrayEquals(new Method[] {first[0], first[1]}, subset);
+
+      final Method[] fourth = methods.clone();
+      reloaded.sort(DeclarativeOrderTestClassTest.class, "all", fourth);
+      assertEquals(1, reloaded.getMisses());
+      assertArrayEquals(first, fourth);
+      assertEquals(2, Files.readAllLines(file).size());
+
+      // Duplicate entries, and entries of changed class files of the same class and group, are compacted upon the next append
+      final String key = lines.get(0).substring(0, lines.get(0).indexOf('\t'));
+      final int signatures = key.lastIndexOf('|');
+      final int classFiles = key.lastIndexOf('|', signatures - 1) + 1;
+      final String stale = key.substring(0, classFiles) + key.substring(classFiles, signatures).replaceAll(".", "0") + key.substring(signatures) + "\tstale";
+      Files.write(file, Arrays.asList(lines.get(0), stale, lines.get(0)), StandardOpenOption.APPEND);
+      assertEquals(5, Files.readAllLines(file).size());
+
+      final Method[] other = new Method[] {first[2], first[0]};
+      new DeclarativeOrderCache(file).sort(DeclarativeOrderTestClassTest.class, "all", other);
+      lines = Files.readAllLines(file);
+      assertEquals(3, lines.size());
+      assertFalse(lines.contains(stale));
+      assertEquals(1, lines.stream().filter(line -> line.startsWith(key + "\t")).count());
+    }
+    finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testKey() {
+    final String[] signatures = {"a()", "b()"};
+    final String key = DeclarativeOrderCache.key(DeclarativeOrderTestClassTest.class, Test.class.getName(), signatures);
+    assertEquals(key, DeclarativeOrderCache.key(DeclarativeOrderTestClassTest.class, Test.class.getName(), new String[] {"b()", "a()"}));
+    assertNotEquals(key, DeclarativeOrderCache.key(DeclarativeOrderCacheTest.class, Test.class.getName(), signatures));
+    assertNotEquals(key, DeclarativeOrderCache.key(DeclarativeOrderTestClassTest.class, "other", signatures));
+    assertNotEquals(key, DeclarativeOrderCache.key(DeclarativeOrderTestClassTest.class, Test.class.getName(), new String[] {"a()"}));
+  }
+}
@@ -0,0 +1,87 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.libj.test;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+public class DeclarativeOrderProcessorTest {
+  private static void write(final Path dir, final String name, final String source) throws Exception {
+    Files.write(dir.resolve(name + ".java"), source.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String[] names(final Method[] methods) {
+    return Arrays.stream(methods).map(m -> m.getDeclaringClass().getSimpleName() + ":" + m.getName()).toArray(String[]::new);
+  }
+
+  @Test
+  public void testIndex() throws Exception {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    assumeNotNull(compiler);
+
+    final Path src = Files.createTempDirectory("declarative-order-src");
+    final Path out = Files.createTempDirectory("declarative-order-out");
+    write(src, "Base", "public abstract class Base { @org.junit.Test public void zeta() {} void helper() {} @org.junit.Before public void alpha() {} @org.junit.Test public void mu() {} }");
+    write(src, "Sub", "public class Sub extends Base { @org.junit.Test public void omega() {} @Override @org.junit.Test public void zeta() {} @org.junit.Test public void beta() {} public static class Nested { @org.junit.Test public void one() {} } }");
+    write(src, "Plain", "public class Plain { public void none() {} }");
+
+    final int status = compiler.run(null, null, null, "-nowarn", "-d", out.toString(), "-cp", System.getProperty("java.class.path"), "-processor", DeclarativeOrderProcessor.class.getName(), src.resolve("Base.java").toString(), src.resolve("Sub.java").toString(), src.resolve("Plain.java").toString());
+    assertEquals(0, status);
+
+    final Path index = out.resolve("declarative-order");
+    assertEquals(Arrays.asList("zeta", "helper", "alpha", "mu"), Files.readAllLines(index.resolve("Base")));
+    assertEquals(Arrays.asList("omega", "zeta", "beta"), Files.readAllLines(index.resolve("Sub")));
+    assertEquals(Arrays.asList("one"), Files.readAllLines(index.resolve("Sub$Nested")));
+    assertFalse(Files.exists(index.resolve("Plain")));
+
+    try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {out.toUri().toURL()}, getClass().getClassLoader())) {
+      final Method[] methods = new TestClass(classLoader.loadClass("Sub")).getAnnotatedMethods(Test.class).stream().map(FrameworkMethod::getMethod).toArray(Method[]::new);
+      assertTrue(DeclarativeOrderIndex.sort(methods));
+      assertArrayEquals(new String[] {"Base:mu", "Sub:omega", "Sub:zeta", "Sub:beta"}, names(methods));
+
+      // A class without an index is not sorted
+      final Method[] plain = classLoader.loadClass("Plain").getDeclaredMethods();
+      assertFalse(DeclarativeOrderIndex.sort(plain));
+    }
+  }
+
+  @Test
+  public void testTestClassUsesIndex() {
+    // The test sources of this module are compiled with the processor
+    final Method[] methods = new TestClass(DeclarativeOrderProcessorTest.class).getAnnotatedMethods(Test.class).stream().map(FrameworkMethod::getMethod).toArray(Method[]::new);
+    final Method[] reversed = new Method[methods.length];
+    for (int i = 0; i < methods.length; ++i) // [A]
+      reversed[i] = methods[methods.length - 1 - i];
+
+    assertTrue(DeclarativeOrderIndex.sort(reversed));
+    assertArrayEquals(new String[] {"DeclarativeOrderProcessorTest:testIndex", "DeclarativeOrderProcessorTest:testTestClassUsesIndex"}, names(reversed));
+  }
+}
@@ -0,0 +1,137 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class DeterministicSchedulerTest {
+  private static final class Counter {
+    private int value;
+
+    private void racyIncrement() {
+      final int value = this.value;
+      DeterministicScheduler.yieldPoint();
+      this.value = value + 1;
+    }
+
+    private void increment() {
+      // The read and write are not separated by a yield point
+      DeterministicScheduler.yieldPoint();
+      ++value;
+    }
+  }
+
+  private static DeterministicScheduler.Body body(final boolean racy) {
+    return executor -> {
+      final Counter counter = new Counter();
+      for (int i = 0; i < 3; ++i) // [N]
+        executor.execute(racy ? counter::racyIncrement : counter::increment);
+
+      executor.shutdown();
+      executor.awaitTermination(1, TimeUnit.SECONDS);
+      assertEquals(3, counter.value);
+    };
+  }
+
+  @Test
+  public void testRandomFindsRace() throws Exception {
+    try {
+      DeterministicScheduler.explore(0, 1000, DeterministicScheduler::random, body(true));
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("replay with DeterministicScheduler.random("));
+      final long seed = Long.parseLong(e.getMessage().replaceAll(".*random\\((\\d+)L\\).*", "$1"));
+      // The failure is replayable from its seed
+      for (int i = 0; i < 3; ++i) { // [N]
+        try {
+          DeterministicScheduler.run(DeterministicScheduler.random(seed), body(true));
+          fail("Expected AssertionError");
+        }
+        catch (final AssertionError r) {
+          assertEquals(e.getCause().getMessage(), r.getMessage());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testPctFindsRace() {
+    try {
+      DeterministicScheduler.explore(0, 1000, seed -> DeterministicScheduler.pct(seed, 2, 10), body(true));
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("replay with DeterministicScheduler.pct("));
+    }
+  }
+
+  @Test
+  public void testNoRace() {
+    DeterministicScheduler.explore(0, 1000, DeterministicScheduler::random, body(false));
+    DeterministicScheduler.explore(0, 1000, seed -> DeterministicScheduler.pct(seed, 3, 10), body(false));
+  }
+
+  @Test
+  public void testDeterministic() throws Exception {
+    final ArrayList<String> first = new ArrayList<>();
+    final ArrayList<String> second = new ArrayList<>();
+    for (int t = 0; t < 2; ++t) { // [N]
+      final ArrayList<String> trace = t == 0 ? first : second;
+      DeterministicScheduler.run(DeterministicScheduler.random(42), executor -> {
+        for (int i = 0; i < 4; ++i) { // [N]
+          final int task = i;
+          executor.execute(() -> {
+            for (int j = 0; j < 4; ++j) { // [N]
+              trace.add(task + ":" + j);
+              DeterministicScheduler.yieldPoint();
+            }
+          });
+        }
+      });
+    }
+
+    assertEquals(16, first.size());
+    assertEquals(first, second);
+  }
+
+  @Test
+  public void testNestedSubmitAndFailure() throws Exception {
+    final AtomicInteger count = new AtomicInteger();
+    try {
+      DeterministicScheduler.run(DeterministicScheduler.random(1), executor -> executor.execute(() -> {
+        count.incrementAndGet();
+        executor.execute(() -> {
+          count.incrementAndGet();
+          throw new IllegalStateException("Fail");
+        });
+      }));
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals("Fail", e.getMessage());
+    }
+
+    assertEquals(2, count.get());
+  }
+}
@@ -0,0 +1,140 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class ForkJoinTestExecutorServiceTest {
+  private static final class Sum extends ForkJoinTestExecutorService.TrackedRecursiveTask<Long> {
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+    private final int fail;
+
+    private Sum(final int from, final int to, final int fail) {
+      this.from = from;
+      this.to = to;
+      this.fail = fail;
+    }
+
+    @Override
+    protected Long compute() {
+      if (to - from <= 16) {
+        long sum = 0;
+        for (int i = from; i < to; ++i) { // [N]
+          if (i == fail)
+            throw new IllegalStateException(String.valueOf(i));
+
+          sum += i;
+        }
+
+        return sum;
+      }
+
+      final int mid = (from + to) >>> 1;
+      final Sum left = new Sum(from, mid, fail);
+      left.fork();
+      return new Sum(mid, to, fail).compute() + left.join();
+    }
+  }
+
+  private static final class Fire extends ForkJoinTestExecutorService.TrackedRecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected void compute() {
+      new ForkJoinTestExecutorService.TrackedRecursiveAction() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+          throw new IllegalStateException("Forgotten");
+        }
+      }.fork();
+    }
+  }
+
+  @Test
+  public void testRecursive() throws Exception {
+    final ForkJoinTestExecutorService executor = new ForkJoinTestExecutorService(4);
+    assertEquals(Long.valueOf(1023L * 1024 / 2), executor.submit(() -> new Sum(0, 1024, -1).invoke()).get());
+
+    final ForkJoinTestExecutorService.Statistics statistics = executor.getStatistics();
+    assertEquals(4, statistics.getParallelism());
+    assertTrue(statistics.toString(), statistics.getMaxParallelism() >= 1);
+    assertTrue(statistics.toString(), statistics.getMaxParallelism() <= 4);
+    assertTrue(statistics.toString(), statistics.getStealCount() >= 0);
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+  }
+
+  @Test
+  public void testJoinedFailureIsRecordedOnce() throws Exception {
+    final ForkJoinTestExecutorService executor = new ForkJoinTestExecutorService(4);
+    executor.submit(() -> new Sum(0, 1024, 100).invoke());
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals("100", e.getMessage());
+      assertEquals(0, e.getSuppressed().length);
+    }
+  }
+
+  @Test
+  public void testForkedFailure() throws Exception {
+    final ForkJoinTestExecutorService executor = new ForkJoinTestExecutorService(2);
+    executor.submit(() -> new Fire().invoke()).get();
+    executor.getPool().awaitQuiescence(1, TimeUnit.MINUTES);
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals("Forgotten", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testParallelStream() throws Exception {
+    final ForkJoinTestExecutorService executor = new ForkJoinTestExecutorService(4);
+    executor.submit(() -> IntStream.range(0, 10000).parallel().map(i -> {
+      if (i == 5000)
+        throw new IllegalStateException("Stream");
+
+      return i;
+    }).sum());
+
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("Stream"));
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class HistogramTest {
+  @Test
+  public void testIndex() {
+    final long[] values = {0, 1, 127, 128, 129, 255, 256, 1000, 1 << 20, Integer.MAX_VALUE, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+    for (final long value : values) { // [A]
+      final int index = Histogram.indexOf(value);
+      assertTrue(value + " <= " + Histogram.highestValueAt(index), value <= Histogram.highestValueAt(index));
+      if (index > 0)
+        assertTrue(value > Histogram.highestValueAt(index - 1));
+    }
+
+    assertEquals(Long.MAX_VALUE, Histogram.highestValueAt(Histogram.indexOf(Long.MAX_VALUE)));
+  }
+
+  @Test
+  public void testEmpty() {
+    final Histogram histogram = new Histogram();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getValueAtPercentile(99));
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getMin());
+    assertEquals(0, histogram.getMean(), 0);
+  }
+
+  @Test
+  public void testPercentiles() {
+    final Random random = new Random(1);
+    final long[] values = new long[100000];
+    final Histogram histogram = new Histogram();
+    for (int i = 0; i < values.length; ++i) { // [A]
+      values[i] = (long)(Math.exp(random.nextDouble() * 20));
+      histogram.record(values[i]);
+    }
+
+    Arrays.sort(values);
+    assertEquals(values.length, histogram.getCount());
+    assertEquals(values[0], histogram.getMin());
+    assertEquals(values[values.length - 1], histogram.getMax());
+    for (final double percentile : new double[] {0, 50, 90, 99, 99.9, 100}) { // [A]
+      final long expected = values[Math.max(0, (int)Math.ceil(percentile / 100 * values.length) - 1)];
+      final long actual = histogram.getValueAtPercentile(percentile);
+      assertTrue(percentile + ": " + expected + " <= " + actual, expected <= actual);
+      assertTrue(percentile + ": " + actual + " within 1.6% of " + expected, actual - expected <= Math.max(0, expected / 64));
+    }
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    final Histogram histogram = new Histogram();
+    try {
+      histogram.record(-1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      histogram.getValueAtPercentile(101);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
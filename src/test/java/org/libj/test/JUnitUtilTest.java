@@ -19,6 +19,12 @@ package org.libj.test;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
 
 import org.junit.Test;
 
@@ -36,4 +42,53 @@ public class JUnitUtilTest {
     assertTrue(JUnitUtil.getResources(getClass().getPackage().getName().replace('.', '/')).length > 1);
     assertEquals(1, JUnitUtil.getResources(getClass().getPackage().getName().replace('.', '/'), getClass().getName() + ".*").length);
   }
-}
\ No newline at end of file
+
+  private static URL[] fixtures(final int ... sizes) throws IOException {
+    final Path dir = Files.createTempDirectory("fixtures");
+    final URL[] urls = new URL[sizes.length + 1];
+    for (int i = 0; i < sizes.length; ++i) { // [A]
+      final Path file = dir.resolve(i + ".bin");
+      Files.write(file, new byte[sizes[i]]);
+      urls[i] = file.toUri().toURL();
+    }
+
+    final Path jar = dir.resolve("fixtures.jar");
+    try (final JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry("entry.bin"));
+      // Compresses to far fewer bytes than its uncompressed size
+      out.write(new byte[5000]);
+      out.closeEntry();
+    }
+
+    urls[sizes.length] = new URL("jar:" + jar.toUri() + "!/entry.bin");
+    return urls;
+  }
+
+  @Test
+  public void testSortBySize() throws IOException {
+    final URL[] urls = fixtures(300, 100, 0, 200);
+    final URL[] sorted = JUnitUtil.sortBySize(urls.clone());
+    assertArrayEquals(new URL[] {urls[2], urls[1], urls[3], urls[0], urls[4]}, sorted);
+  }
+
+  @Test
+  public void testPartitionBySize() throws IOException {
+    final URL[] urls = fixtures(3000, 1000, 1000, 1000, 2000, 2000, 100);
+    final URL[][] batches = JUnitUtil.partitionBySize(3, urls);
+    assertEquals(3, batches.length);
+    assertArrayEquals(new URL[] {urls[7], urls[6]}, batches[0]);
+    assertArrayEquals(new URL[] {urls[0], urls[1], urls[2]}, batches[1]);
+    assertArrayEquals(new URL[] {urls[4], urls[5], urls[3]}, batches[2]);
+
+    final URL[][] single = JUnitUtil.partitionBySize(10, urls[0]);
+    assertEquals(10, single.length);
+    assertEquals(1, Arrays.stream(single).filter(b -> b.length == 1).count());
+
+    try {
+      JUnitUtil.partitionBySize(0, urls);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class LoadTestTest {
+  @Test
+  public void testClosedLoopIterations() throws Exception {
+    final AtomicLong calls = new AtomicLong();
+    final LoadTest.Result result = LoadTest.of(calls::incrementAndGet).concurrency(4).warmupIterations(100).iterations(1000).run();
+    assertEquals(1100, calls.get());
+    assertEquals(1000, result.getCount());
+    assertEquals(1000, result.getLatency().getCount());
+    result.assertThroughputAtLeast(1).assertPercentileBelow(50, 10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testOpenLoopRate() throws Exception {
+    final LoadTest.Result result = LoadTest.of(() -> null).concurrency(2).rate(1000).duration(200, TimeUnit.MILLISECONDS).run();
+    // 200 invocations are scheduled 1ms apart
+    assertTrue(String.valueOf(result.getCount()), result.getCount() <= 200 && result.getCount() > 100);
+    assertTrue(result.getThroughput() < 2000);
+  }
+
+  @Test
+  public void testCoordinatedOmission() throws Exception {
+    // A single worker that stalls for 100ms delays the invocations that are scheduled during the stall
+    final AtomicLong calls = new AtomicLong();
+    final LoadTest.Result result = LoadTest.of(() -> {
+      if (calls.getAndIncrement() == 0)
+        Thread.sleep(100);
+
+      return null;
+    }).rate(1000).iterations(50).run();
+
+    assertEquals(50, result.getCount());
+    assertTrue(result.getServiceTime().getValueAtPercentile(50) < TimeUnit.MILLISECONDS.toNanos(50));
+    assertTrue(result.getLatency().getValueAtPercentile(50) >= TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  public void testAssertions() throws Exception {
+    final LoadTest.Result result = LoadTest.of(() -> {
+      Thread.sleep(2);
+      return null;
+    }).iterations(10).run();
+
+    try {
+      result.assertPercentileBelow(99, 1, TimeUnit.MILLISECONDS);
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("p99.0 latency"));
+    }
+
+    try {
+      result.assertThroughputAtLeast(1000);
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("Throughput"));
+    }
+  }
+
+  @Test
+  public void testFailure() throws Exception {
+    final AtomicLong calls = new AtomicLong();
+    try {
+      LoadTest.of(() -> {
+        if (calls.incrementAndGet() == 10)
+          throw new IllegalStateException("Fail");
+
+        return null;
+      }).concurrency(4).duration(1, TimeUnit.MINUTES).run();
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals("Fail", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testIllegalState() throws Exception {
+    try {
+      LoadTest.of(() -> null).run();
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
+}
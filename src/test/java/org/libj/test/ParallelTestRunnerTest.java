@@ -0,0 +1,290 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runner.notification.StoppedByUserException;
+
+public class ParallelTestRunnerTest {
+  @RunWith(ParallelTestRunner.class)
+  @ParallelTestRunner.Parallelism(4)
+  public static class Fixture {
+    static final CyclicBarrier barrier = new CyclicBarrier(3);
+    static final List<String> chain = Collections.synchronizedList(new ArrayList<>());
+    static final AtomicInteger inChain = new AtomicInteger();
+    static final AtomicInteger befores = new AtomicInteger();
+    static final AtomicInteger afters = new AtomicInteger();
+
+    private boolean before;
+
+    @Before
+    public void before() {
+      before = true;
+      befores.incrementAndGet();
+    }
+
+    @After
+    public void after() {
+      afters.incrementAndGet();
+    }
+
+    private void link(final String name) throws Exception {
+      assertTrue(before);
+      assertEquals(1, inChain.incrementAndGet());
+      Thread.sleep(20);
+      chain.add(name);
+      inChain.decrementAndGet();
+    }
+
+    @Test
+    @ParallelTestRunner.Chain("chain")
+    public void testC() throws Exception {
+      link("c");
+    }
+
+    @Test
+    public void testConcurrent1() throws Exception {
+      barrier.await(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @ParallelTestRunner.Chain("chain")
+    public void testA() throws Exception {
+      link("a");
+    }
+
+    @Test
+    public void testConcurrent2() throws Exception {
+      barrier.await(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testConcurrent3() throws Exception {
+      barrier.await(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @ParallelTestRunner.Chain("chain")
+    public void testB() throws Exception {
+      link("b");
+    }
+
+    @Test
+    public void testFail() {
+      fail("Fail");
+    }
+  }
+
+  @RunWith(ParallelTestRunner.class)
+  @ParallelTestRunner.Parallelism(0)
+  public static class InvalidFixture {
+    @Test
+    @ParallelTestRunner.Chain("")
+    public void test() {
+    }
+  }
+
+  @RunWith(ParallelTestRunner.class)
+  @ParallelTestRunner.Parallelism(2)
+  public static class StopFixture {
+    static final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterClass
+    public static void afterClass() {
+      events.add("afterClass");
+    }
+
+    @Test
+    public void testSlow() {
+      // Ignores the interrupt by which the request to stop is delivered
+      boolean interrupted = false;
+      for (final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300); System.nanoTime() < deadline;) {
+        try {
+          Thread.sleep(10);
+        }
+        catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+
+      if (interrupted)
+        Thread.currentThread().interrupt();
+    }
+
+    @Test
+    public void testStop() {
+    }
+
+    @Test
+    public void testLast() {
+    }
+  }
+
+  private static void reset() {
+    Fixture.barrier.reset();
+    Fixture.chain.clear();
+    Fixture.befores.set(0);
+    Fixture.afters.set(0);
+  }
+
+  /**
+   * A {@link RunListener} that JUnit does not synchronize, which records whether its events are delivered concurrently.
+   */
+  @RunListener.ThreadSafe
+  private static final class EventListener extends RunListener {
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger inListener = new AtomicInteger();
+    private final AtomicInteger overlaps = new AtomicInteger();
+
+    private void event(final String event) throws InterruptedException {
+      if (inListener.incrementAndGet() != 1)
+        overlaps.incrementAndGet();
+
+      // Widens the window in which events would overlap if they were not serialized
+      Thread.sleep(5);
+      events.add(event);
+      inListener.decrementAndGet();
+    }
+
+    @Override
+    public void testStarted(final Description description) throws InterruptedException {
+      event("started:" + description.getMethodName());
+    }
+
+    @Override
+    public void testFinished(final Description description) throws InterruptedException {
+      event("finished:" + description.getMethodName());
+    }
+
+    @Override
+    public void testFailure(final Failure failure) throws InterruptedException {
+      event("failure:" + failure.getDescription().getMethodName());
+    }
+  }
+
+  @Test
+  public void testRun() {
+    reset();
+    final JUnitCore core = new JUnitCore();
+    final EventListener listener = new EventListener();
+    core.addListener(listener);
+
+    final Result result = core.run(Fixture.class);
+    assertEquals(7, result.getRunCount());
+    assertEquals(1, result.getFailureCount());
+    assertEquals("testFail", result.getFailures().get(0).getDescription().getMethodName());
+    assertEquals(Arrays.asList("c", "a", "b"), Fixture.chain);
+    assertEquals(7, Fixture.befores.get());
+    assertEquals(7, Fixture.afters.get());
+    assertEquals(15, listener.events.size());
+    // Events are not delivered concurrently
+    assertEquals(0, listener.overlaps.get());
+  }
+
+  @Test
+  public void testFilter() {
+    reset();
+    final Result result = new JUnitCore().run(Request.aClass(Fixture.class).filterWith(new Filter() {
+      @Override
+      public boolean shouldRun(final Description description) {
+        return description.getMethodName() == null || description.getMethodName().startsWith("testA") || description.getMethodName().startsWith("testB");
+      }
+
+      @Override
+      public String describe() {
+        return "testA, testB";
+      }
+    }));
+
+    assertEquals(2, result.getRunCount());
+    assertEquals(0, result.getFailureCount());
+    assertEquals(Arrays.asList("a", "b"), Fixture.chain);
+  }
+
+  @Test
+  public void testSort() {
+    reset();
+    final Result result = new JUnitCore().run(Request.aClass(Fixture.class).sortWith(Comparator.comparing(Description::getMethodName, Comparator.nullsFirst(Comparator.reverseOrder()))));
+    assertEquals(7, result.getRunCount());
+    assertEquals(1, result.getFailureCount());
+    // The methods of a chain are run in the order of their declaration, regardless of the sorter
+    assertEquals(Arrays.asList("c", "a", "b"), Fixture.chain);
+  }
+
+  @Test
+  public void testInitializationErrors() {
+    final Result result = new JUnitCore().run(InvalidFixture.class);
+    assertEquals(1, result.getFailureCount());
+    final String message = result.getFailures().get(0).getMessage();
+    assertTrue(message, message.contains("@Parallelism(0) must be positive"));
+    assertTrue(message, message.contains("Method test has an empty @Chain"));
+  }
+
+  @Test
+  public void testStop() {
+    StopFixture.events.clear();
+    final RunNotifier notifier = new RunNotifier();
+    notifier.addListener(new RunListener() {
+      @Override
+      public void testStarted(final Description description) {
+        StopFixture.events.add("started:" + description.getMethodName());
+        if ("testStop".equals(description.getMethodName()))
+          notifier.pleaseStop();
+      }
+
+      @Override
+      public void testFinished(final Description description) {
+        StopFixture.events.add("finished:" + description.getMethodName());
+      }
+    });
+
+    try {
+      Request.aClass(StopFixture.class).getRunner().run(notifier);
+      fail("Expected StoppedByUserException");
+    }
+    catch (final StoppedByUserException e) {
+    }
+
+    // The method that was running when the stop was requested has finished before the AfterClass methods are run
+    assertFalse(StopFixture.events.toString(), StopFixture.events.contains("started:testLast"));
+    assertTrue(StopFixture.events.toString(), StopFixture.events.contains("finished:testSlow"));
+    assertEquals("afterClass", StopFixture.events.get(StopFixture.events.size() - 1));
+  }
+}
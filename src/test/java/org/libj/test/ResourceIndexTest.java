@@ -0,0 +1,179 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+
+import org.junit.Test;
+
+public class ResourceIndexTest {
+  private static String read(final URL url) throws IOException {
+    try (final InputStream in = url.openStream()) {
+      final StringBuilder builder = new StringBuilder();
+      for (int ch; (ch = in.read()) != -1;) // [N]
+        builder.append((char)ch);
+
+      return builder.toString();
+    }
+  }
+
+  @Test
+  public void testClassPath() throws IOException {
+    final ClassLoader classLoader = getClass().getClassLoader();
+    final ResourceIndex index = ResourceIndex.of(classLoader);
+    assertSame(index, ResourceIndex.of(classLoader));
+
+    final String name = getClass().getName().replace('.', '/') + ".class";
+    assertEquals(classLoader.getResource(name), index.getResource(name));
+    assertNull(index.getResource("org/libj/test/Missing.class"));
+
+    // Resources in JARs are indexed
+    final URL test = index.getResource("org/junit/Test.class");
+    assertEquals("jar", test.getProtocol());
+    assertEquals(classLoader.getResource("org/junit/Test.class"), test);
+
+    final String[] names = index.getNames("org/libj/test/", Pattern.compile(".*/ResourceIndex.*\\.class"));
+    assertTrue(Arrays.toString(names), Arrays.asList(names).contains(name));
+    for (final String match : names) // [A]
+      assertTrue(match, match.startsWith("org/libj/test/ResourceIndex"));
+
+    assertEquals(0, index.getNames("org/libj/test/Missing", null).length);
+  }
+
+  @Test
+  public void testDirectoryAndJar() throws IOException {
+    final Path dir = Files.createTempDirectory("resources");
+    // A directory that is deeper than the recursion of a line-by-line listing could handle
+    Path deep = dir.resolve("fixtures");
+    for (int i = 0; i < 200; ++i) // [N]
+      deep = deep.resolve("d");
+
+    Files.createDirectories(deep);
+    Files.write(deep.resolve("deep.txt"), "deep".getBytes());
+    for (int i = 0; i < 100; ++i) // [N]
+      Files.write(dir.resolve("fixtures").resolve("file" + i + ".txt"), ("dir" + i).getBytes());
+
+    final Path jar = dir.resolve("fixtures.jar");
+    try (final JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry("fixtures/"));
+      out.putNextEntry(new ZipEntry("fixtures/file0.txt"));
+      out.write("jar0".getBytes());
+      out.putNextEntry(new ZipEntry("fixtures/jar.txt"));
+      out.write("jar".getBytes());
+      out.closeEntry();
+    }
+
+    try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {dir.resolve("classes").toUri().toURL(), dir.toUri().toURL(), jar.toUri().toURL()}, null)) {
+      final ResourceIndex index = ResourceIndex.of(classLoader);
+      // 100 files, deep.txt, fixtures.jar itself, and jar.txt
+      assertEquals(103, index.size());
+
+      // The first root in which a resource is present wins
+      assertEquals("dir0", read(index.getResource("fixtures/file0.txt")));
+      assertEquals("jar", read(index.getResource("fixtures/jar.txt")));
+      assertEquals("deep", read(index.getResources("fixtures/d/", null)[0]));
+      assertEquals(100, index.getResources("fixtures/file", null).length);
+      assertEquals(11, index.getNames("fixtures/", Pattern.compile("fixtures/file1\\d?\\.txt")).length);
+
+      // The directory is listed from the first root in which it exists
+      final URL[] urls = JUnitUtil.getResources("fixtures", classLoader);
+      assertEquals(101, urls.length);
+      assertEquals(1, JUnitUtil.getResources("fixtures/", "fixtures/d", classLoader).length);
+      assertNull(index.list("missing", null));
+      assertEquals(0, JUnitUtil.getResources("missing", classLoader).length);
+    }
+  }
+
+  @Test
+  public void testManifestClassPath() throws IOException {
+    final Path dir = Files.createTempDirectory("resources");
+    Files.createDirectories(dir.resolve("classes"));
+    Files.write(dir.resolve("classes").resolve("a.txt"), "a".getBytes());
+    // A manifest-only JAR, as the booter JAR of Surefire
+    final Manifest manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, "classes/");
+    final Path jar = dir.resolve("booter.jar");
+    try (final OutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+    }
+
+    try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null)) {
+      final ResourceIndex index = ResourceIndex.of(classLoader);
+      assertEquals(classLoader.getResource("a.txt"), index.getResource("a.txt"));
+
+      // The root is listed from the directory of the Class-Path, not from the META-INF of the JAR
+      final URL[] urls = JUnitUtil.getResources("", classLoader);
+      assertEquals(1, urls.length);
+      assertEquals(classLoader.getResource("a.txt"), urls[0]);
+    }
+  }
+
+  @Test
+  public void testInvalidate() throws IOException {
+    final Path dir = Files.createTempDirectory("resources");
+    Files.createDirectories(dir.resolve("fixtures/sub"));
+    // A file that is not a JAR is skipped
+    final Path text = dir.resolve("notes.txt");
+    Files.write(text, "notes".getBytes());
+    try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {text.toUri().toURL(), dir.toUri().toURL()}, null)) {
+      final ResourceIndex index = ResourceIndex.of(classLoader);
+      assertEquals(1, index.size());
+      assertEquals(1, index.list("fixtures", null).length);
+
+      // A resource that is created after the index is built is not listed until the index is invalidated
+      Files.write(dir.resolve("fixtures/a.txt"), "a".getBytes());
+      assertEquals(1, JUnitUtil.getResources("fixtures", classLoader).length);
+      assertNull(index.getResource("fixtures/a.txt"));
+
+      ResourceIndex.invalidate(classLoader);
+      final ResourceIndex rebuilt = ResourceIndex.of(classLoader);
+      assertNotSame(index, rebuilt);
+      assertSame(rebuilt, ResourceIndex.of(classLoader));
+      assertEquals(classLoader.getResource("fixtures/a.txt"), rebuilt.getResource("fixtures/a.txt"));
+      final URL[] urls = JUnitUtil.getResources("fixtures", classLoader);
+      assertEquals(2, urls.length);
+
+      // The URLs are of the form of the ClassLoader, i.e. without a trailing '/' for a directory
+      assertEquals(classLoader.getResource("fixtures/a.txt").toString(), urls[0].toString());
+      assertEquals(classLoader.getResource("fixtures/sub").toString(), urls[1].toString());
+    }
+  }
+
+  @Test
+  public void testEmptyJar() throws IOException {
+    final Path jar = Files.createTempFile("empty", ".jar");
+    try (final OutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+    }
+
+    try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null)) {
+      assertEquals(0, ResourceIndex.of(classLoader).size());
+    }
+  }
+}
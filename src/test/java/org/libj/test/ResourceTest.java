@@ -0,0 +1,143 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import org.junit.Test;
+
+public class ResourceTest {
+  private static String toString(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return new String(bytes);
+  }
+
+  @Test
+  public void testBuffers() throws IOException {
+    final Path dir = Files.createTempDirectory("resources");
+    Files.createDirectories(dir.resolve("fixtures/sub"));
+    Files.write(dir.resolve("fixtures/a.bin"), "file".getBytes());
+    final Path jar = dir.resolve("fixtures.jar");
+    final StringBuilder large = new StringBuilder();
+    for (int i = 0; i < 10000; ++i) // [N]
+      large.append(i);
+
+    try (final JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry("jarred/"));
+      out.putNextEntry(new ZipEntry("jarred/b.bin"));
+      out.write("jar".getBytes());
+      out.putNextEntry(new ZipEntry("jarred/large.bin"));
+      out.write(large.toString().getBytes());
+      out.closeEntry();
+    }
+
+    try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {dir.toUri().toURL(), jar.toUri().toURL()}, null)) {
+      final List<Resource> files;
+      try (final Stream<Resource> stream = JUnitUtil.streamResources("fixtures", classLoader)) {
+        files = stream.collect(Collectors.toList());
+      }
+
+      assertEquals(2, files.size());
+      final Resource file = files.get(0);
+      assertEquals("fixtures/a.bin", file.getName());
+      assertFalse(file.isDirectory());
+      assertEquals(4, file.getSize());
+      final ByteBuffer mapped = file.getBuffer();
+      assertTrue(mapped instanceof MappedByteBuffer);
+      assertTrue(mapped.isReadOnly());
+      assertEquals("file", toString(mapped));
+      assertTrue(files.get(1).isDirectory());
+      try {
+        files.get(1).getBuffer();
+        fail("Expected IOException");
+      }
+      catch (final IOException e) {
+      }
+
+      try (final Stream<Resource> stream = JUnitUtil.streamResources("jarred/", ".*\\.bin", classLoader)) {
+        final List<Resource> entries = stream.collect(Collectors.toList());
+        assertEquals(2, entries.size());
+        final ByteBuffer direct = entries.get(0).getBuffer();
+        assertTrue(direct.isDirect());
+        assertTrue(direct.isReadOnly());
+        assertEquals("jar", toString(direct));
+        assertEquals(classLoader.getResource("jarred/b.bin"), entries.get(0).getURL());
+        assertEquals(large.toString(), toString(entries.get(1).getBuffer()));
+      }
+    }
+  }
+
+  @Test
+  public void testLazy() throws IOException {
+    final String path = getClass().getPackage().getName().replace('.', '/');
+    try (final Stream<Resource> stream = JUnitUtil.streamResources(path)) {
+      final Resource first = stream.filter(r -> r.getName().endsWith("ResourceTest.class")).findFirst().get();
+      assertEquals(getClass().getResource("ResourceTest.class"), first.getURL());
+      assertTrue(first.getSize() > 0);
+    }
+  }
+
+  @Test
+  public void testListingFallback() throws IOException {
+    final Path dir = Files.createTempDirectory("fixtures");
+    Files.createDirectories(dir.resolve("fixtures/sub"));
+    Files.write(dir.resolve("fixtures/a.txt"), "a".getBytes());
+    // A ClassLoader of no root of the classpath, whose listing of a directory names an entry that it does not resolve
+    final ClassLoader classLoader = new ClassLoader(null) {
+      @Override
+      public URL getResource(final String name) {
+        final Path path = dir.resolve(name);
+        try {
+          return Files.exists(path) ? path.toUri().toURL() : null;
+        }
+        catch (final MalformedURLException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+
+      @Override
+      public InputStream getResourceAsStream(final String name) {
+        return "fixtures".equals(name) ? new ByteArrayInputStream("a.txt\nmissing.txt\nsub\n".getBytes()) : null;
+      }
+    };
+
+    try (final Stream<Resource> resources = JUnitUtil.streamResources("fixtures", classLoader)) {
+      final List<Resource> list = resources.collect(Collectors.toList());
+      assertEquals(2, list.size());
+      assertEquals("fixtures/a.txt", list.get(0).getName());
+      assertEquals(classLoader.getResource("fixtures/a.txt"), list.get(0).getURL());
+      assertEquals("fixtures/sub/", list.get(1).getName());
+      assertTrue(list.get(1).isDirectory());
+    }
+  }
+}
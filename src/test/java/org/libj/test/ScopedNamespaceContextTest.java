@@ -0,0 +1,78 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import javax.xml.XMLConstants;
+
+import org.junit.Test;
+
+public class ScopedNamespaceContextTest {
+  @Test
+  public void testPushPop() {
+    final ScopedNamespaceContext outer = ScopedNamespaceContext.EMPTY.push("a", "urn:a").push("b", "urn:b");
+    final ScopedNamespaceContext inner = outer.push("a", "urn:c");
+    assertEquals("urn:a", outer.getNamespaceURI("a"));
+    assertEquals("urn:c", inner.getNamespaceURI("a"));
+    assertEquals("urn:b", inner.getNamespaceURI("b"));
+    assertEquals(XMLConstants.NULL_NS_URI, inner.getNamespaceURI("c"));
+    assertEquals(XMLConstants.NULL_NS_URI, ScopedNamespaceContext.EMPTY.getNamespaceURI(XMLConstants.DEFAULT_NS_PREFIX));
+    assertEquals(XMLConstants.XML_NS_URI, inner.getNamespaceURI(XMLConstants.XML_NS_PREFIX));
+
+    // The shadowed declaration of "a" is not visible in the inner scope
+    assertNull(inner.getPrefix("urn:a"));
+    assertFalse(inner.getPrefixes("urn:a").hasNext());
+    assertEquals("a", outer.getPrefix("urn:a"));
+    assertEquals("a", inner.getPrefix("urn:c"));
+
+    assertSame(outer, inner.pop());
+    assertSame(ScopedNamespaceContext.EMPTY, outer.pop().pop());
+    try {
+      ScopedNamespaceContext.EMPTY.pop();
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
+
+  @Test
+  public void testPushElement() {
+    final ScopedNamespaceContext context = ScopedNamespaceContext.EMPTY.push(AssertXmlTest.parse("<x:a xmlns=\"urn:default\" xmlns:x=\"urn:x\" xmlns:y=\"urn:x\"/>"));
+    assertEquals("urn:default", context.getNamespaceURI(XMLConstants.DEFAULT_NS_PREFIX));
+    assertEquals("urn:x", context.getNamespaceURI("x"));
+    final Iterator<String> prefixes = context.getPrefixes("urn:x");
+    assertTrue(prefixes.hasNext());
+    prefixes.next();
+    assertTrue(prefixes.hasNext());
+    prefixes.next();
+    assertFalse(prefixes.hasNext());
+    assertSame(ScopedNamespaceContext.EMPTY, ScopedNamespaceContext.EMPTY.push(AssertXmlTest.parse("<a/>")));
+  }
+
+  @Test
+  public void testEquals() {
+    final ScopedNamespaceContext context = ScopedNamespaceContext.EMPTY.push("a", "urn:a");
+    assertEquals(context.push("b", "urn:b"), ScopedNamespaceContext.EMPTY.push("a", "urn:a").push("b", "urn:b"));
+    assertEquals(context.push("b", "urn:b").hashCode(), ScopedNamespaceContext.EMPTY.push("a", "urn:a").push("b", "urn:b").hashCode());
+    assertNotEquals(context.push("b", "urn:b"), context.push("b", "urn:c"));
+    assertNotEquals(context, context.push("b", "urn:b"));
+    assertNotEquals(ScopedNamespaceContext.EMPTY, context);
+  }
+}
@@ -18,10 +18,13 @@ package org.libj.test;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.Test;
 
@@ -74,4 +77,134 @@ public class SimpleNamespaceContextTest {
     catch (final UnsupportedOperationException e) {
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testLarge() {
+    final Map<String,String> prefixToNamespace = new HashMap<>();
+    for (int i = 0; i < 200; ++i) // [N]
+      prefixToNamespace.put("p" + i, "urn:" + i / 2);
+
+    final SimpleNamespaceContext context = new SimpleNamespaceContext(prefixToNamespace);
+    for (int i = 0; i < 200; ++i) { // [N]
+      assertEquals("urn:" + i / 2, context.getNamespaceURI("p" + i));
+      final Iterator<String> prefixes = context.getPrefixes("urn:" + i / 2);
+      final String prefix = prefixes.next();
+      assertEquals("urn:" + i / 2, context.getNamespaceURI(prefix));
+      assertTrue(prefixes.hasNext());
+    }
+
+    assertNull(context.getNamespaceURI("p200"));
+    assertNull(context.getPrefix("urn:100"));
+    assertNull(context.getPrefixes("urn:100"));
+
+    assertEquals(context, new SimpleNamespaceContext(new TreeMap<>(prefixToNamespace)));
+    assertEquals(context.hashCode(), new SimpleNamespaceContext(new TreeMap<>(prefixToNamespace)).hashCode());
+
+    prefixToNamespace.put("p0", "urn:changed");
+    assertEquals("urn:0", context.getNamespaceURI("p0"));
+    assertNotEquals(context, new SimpleNamespaceContext(prefixToNamespace));
+  }
+
+  /**
+   * The implementation that preceded the open-addressing tables of {@link SimpleNamespaceContext}, as the baseline of
+   * {@link #testAllocation()}.
+   */
+  private static final class HashMapNamespaceContext {
+    private final Map<String,String> prefixToNamespaceURI;
+    private final Map<String,List<String>> namespaceUriToPrefix = new HashMap<>();
+
+    private HashMapNamespaceContext(final Map<String,String> prefixToNamespaceURI) {
+      this.prefixToNamespaceURI = prefixToNamespaceURI;
+      for (final Map.Entry<String,String> entry : prefixToNamespaceURI.entrySet()) { // [S]
+        List<String> prefixes = namespaceUriToPrefix.get(entry.getValue());
+        if (prefixes == null)
+          namespaceUriToPrefix.put(entry.getValue(), prefixes = new ArrayList<>());
+
+        prefixes.add(entry.getKey());
+      }
+    }
+
+    private String getNamespaceURI(final String prefix) {
+      return prefixToNamespaceURI.get(prefix);
+    }
+
+    private String getPrefix(final String uri) {
+      final List<String> prefixes = namespaceUriToPrefix.get(uri);
+      return prefixes == null ? null : prefixes.get(0);
+    }
+
+    private Iterator<String> getPrefixes(final String uri) {
+      final List<String> prefixes = namespaceUriToPrefix.get(uri);
+      return prefixes == null ? null : new Iterator<String>() {
+        private final Iterator<String> iterator = prefixes.iterator();
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public String next() {
+          return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+          throw new UnsupportedOperationException();
+        }
+      };
+    }
+  }
+
+  private static void assertAllocation(final int size) {
+    final HashMap<String,String> prefixToNamespace = new HashMap<>();
+    for (int i = 0; i < size; ++i) // [N]
+      prefixToNamespace.put("p" + i, "urn:" + i / 2);
+
+    final SimpleNamespaceContext context = new SimpleNamespaceContext(prefixToNamespace);
+    final HashMapNamespaceContext baseline = new HashMapNamespaceContext(prefixToNamespace);
+    final String[] prefixes = prefixToNamespace.keySet().toArray(new String[size]);
+    final String[] uris = baseline.namespaceUriToPrefix.keySet().toArray(new String[baseline.namespaceUriToPrefix.size()]);
+    for (final String prefix : prefixes) // [A]
+      assertEquals(baseline.getNamespaceURI(prefix), context.getNamespaceURI(prefix));
+
+    for (final String uri : uris) // [A]
+      assertEquals(uri, context.getNamespaceURI(context.getPrefix(uri)));
+
+    final int iterations = 10000;
+    final int[] sink = new int[1];
+    // getNamespaceURI(String) and getPrefix(String) do not allocate (the measurement itself allocates a few bytes)
+    final long lookupBytes = Allocations.allocatedBytes(() -> {
+      for (int i = 0; i < iterations; ++i) { // [N]
+        for (final String prefix : prefixes) // [A]
+          sink[0] += context.getNamespaceURI(prefix).length();
+
+        for (final String uri : uris) // [A]
+          sink[0] += context.getPrefix(uri).length();
+      }
+    });
+    assertTrue(size + " namespaces: lookup allocated " + lookupBytes + " bytes", lookupBytes < iterations);
+
+    // getPrefixes(String) allocates a single iterator, rather than a wrapper of the iterator of a List. The iterators escape to the
+    // array, so that their allocation is not eliminated by the JIT compiler.
+    final Object[] escape = new Object[1];
+    final long iteratorBytes = Allocations.allocatedBytes(() -> {
+      for (int i = 0; i < iterations; ++i) // [N]
+        for (final String uri : uris) // [A]
+          escape[0] = context.getPrefixes(uri);
+    });
+    final long baselineBytes = Allocations.allocatedBytes(() -> {
+      for (int i = 0; i < iterations; ++i) // [N]
+        for (final String uri : uris) // [A]
+          escape[0] = baseline.getPrefixes(uri);
+    });
+    assertTrue(size + " namespaces: getPrefixes allocated " + iteratorBytes + " bytes, baseline " + baselineBytes + " bytes", iteratorBytes < baselineBytes);
+  }
+
+  @Test
+  public void testAllocation() {
+    assertAllocation(2);
+    assertAllocation(20);
+    assertAllocation(200);
+  }
+}
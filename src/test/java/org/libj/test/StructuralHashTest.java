@@ -0,0 +1,54 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class StructuralHashTest {
+  private static final String control = "<ns:a xmlns:ns=\"urn:test\" x=\"1\" y=\"2\"><ns:b>foo</ns:b><!--c--><ns:b/></ns:a>";
+
+  private static long hash(final String xml, final boolean ignoreText) {
+    return StructuralHash.hash(AssertXmlTest.parse(xml), ignoreText);
+  }
+
+  @Test
+  public void testEqual() {
+    assertEquals(hash(control, false), hash(control, false));
+    assertEquals(hash(control, false), hash("<ns:a xmlns:ns=\"urn:test\" y=\"2\" x=\"1\">\n  <ns:b>foo</ns:b>\n  <!--c-->\n  <ns:b/>\n</ns:a>", false));
+    assertEquals(hash(control, true), hash("<ns:a xmlns:ns=\"urn:test\" x=\"1\" y=\"2\"><ns:b>bar</ns:b><!--c--><ns:b/></ns:a>", true));
+  }
+
+  @Test
+  public void testNotEqual() {
+    assertNotEquals(hash(control, false), hash("<ns:a xmlns:ns=\"urn:test\" x=\"1\" y=\"2\"><ns:b>bar</ns:b><!--c--><ns:b/></ns:a>", false));
+    assertNotEquals(hash(control, true), hash("<ns:a xmlns:ns=\"urn:test\" x=\"1\" y=\"3\"><ns:b>foo</ns:b><!--c--><ns:b/></ns:a>", true));
+    assertNotEquals(hash(control, true), hash("<ns:a xmlns:ns=\"urn:test\" x=\"1\" y=\"2\"><ns:b>foo</ns:b><!--d--><ns:b/></ns:a>", true));
+    assertNotEquals(hash(control, true), hash("<ns:a xmlns:ns=\"urn:test\" x=\"1\" y=\"2\"><ns:b/><!--c--><ns:b>foo</ns:b></ns:a>", true));
+    assertNotEquals(hash(control, true), hash("<ns:a xmlns:ns=\"urn:other\" x=\"1\" y=\"2\"><ns:b>foo</ns:b><!--c--><ns:b/></ns:a>", true));
+    assertNotEquals(hash(control, true), hash("<ns:a xmlns:ns=\"urn:test\" x=\"1\" y=\"2\"><ns:b>foo</ns:b><!--c--><ns:b/><ns:b/></ns:a>", true));
+  }
+
+  @Test
+  public void testCount() {
+    // The element, 3 attributes (including xmlns:ns), 2 child elements, their text, and the comment
+    assertEquals(8, StructuralHash.count(AssertXmlTest.parse(control)));
+    assertEquals(StructuralHash.count(AssertXmlTest.parse(control)), StructuralHash.count(AssertXmlTest.parse("<ns:a xmlns:ns=\"urn:test\" y=\"2\" x=\"1\">\n  <ns:b>foo</ns:b>\n  <!--c-->\n  <ns:b/>\n</ns:a>")));
+    assertNotEquals(StructuralHash.count(AssertXmlTest.parse(control)), StructuralHash.count(AssertXmlTest.parse("<ns:a xmlns:ns=\"urn:test\" x=\"1\" y=\"2\"><ns:b>foo</ns:b><!--c--><ns:b/><ns:b/></ns:a>")));
+  }
+}
@@ -0,0 +1,181 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class TaskScopeTest {
+  @Test
+  public void testJoin() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(4));
+    final ArrayList<Future<Integer>> futures = new ArrayList<>();
+    try (final TaskScope scope = new TaskScope(executor)) {
+      for (int i = 0; i < 10; ++i) { // [N]
+        final int value = i;
+        futures.add(scope.fork(() -> {
+          Thread.sleep(10);
+          return value;
+        }));
+      }
+
+      scope.join();
+      assertNull(scope.getFailure());
+    }
+
+    for (int i = 0, i$ = futures.size(); i < i$; ++i) // [RA]
+      assertEquals(Integer.valueOf(i), futures.get(i).get());
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+  }
+
+  @Test
+  public void testFailFast() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(8));
+    final ArrayList<Future<Object>> futures = new ArrayList<>();
+    final long start = System.currentTimeMillis();
+    try (final TaskScope scope = new TaskScope(executor)) {
+      for (int i = 0; i < 6; ++i) // [N]
+        futures.add(scope.fork(() -> {
+          Thread.sleep(60000);
+          return null;
+        }));
+
+      scope.fork(() -> {
+        Thread.sleep(100);
+        throw new IllegalStateException("Fail");
+      });
+
+      try {
+        scope.join();
+        fail("Expected IllegalStateException");
+      }
+      catch (final IllegalStateException e) {
+        assertEquals("Fail", e.getMessage());
+      }
+
+      try {
+        scope.close();
+        scope.fork(() -> null);
+        fail("Expected IllegalStateException");
+      }
+      catch (final IllegalStateException e) {
+      }
+    }
+
+    assertTrue(System.currentTimeMillis() - start < 30000);
+    for (int i = 0, i$ = futures.size(); i < i$; ++i) // [RA]
+      assertTrue(futures.get(i).isCancelled());
+
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals("Fail", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testJoinAwaitsCancelledTasks() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(2));
+    final AtomicBoolean exited = new AtomicBoolean();
+    try (final TaskScope scope = new TaskScope(executor)) {
+      scope.fork(() -> {
+        try {
+          Thread.sleep(60000);
+        }
+        catch (final InterruptedException e) {
+          // Continues to run for a while after it is cancelled
+          Thread.sleep(200);
+          exited.set(true);
+        }
+
+        return null;
+      });
+
+      scope.fork(() -> {
+        Thread.sleep(100);
+        throw new IllegalStateException("Fail");
+      });
+
+      try {
+        scope.join();
+        fail("Expected IllegalStateException");
+      }
+      catch (final IllegalStateException e) {
+        assertEquals("Fail", e.getMessage());
+      }
+
+      assertTrue(exited.get());
+    }
+
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
+
+  @Test(timeout = 30000)
+  public void testExecutorFailure() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newSingleThreadExecutor()).withFailFast();
+    final AtomicInteger ran = new AtomicInteger();
+    // A task that is not in the scope fails while the tasks of the scope are queued behind it
+    executor.submit(() -> {
+      Thread.sleep(100);
+      throw new IllegalStateException("Fail");
+    });
+
+    final ArrayList<Future<Integer>> futures = new ArrayList<>();
+    try (final TaskScope scope = new TaskScope(executor)) {
+      for (int i = 0; i < 3; ++i) // [N]
+        futures.add(scope.fork(ran::incrementAndGet));
+
+      try {
+        scope.join();
+        fail("Expected IllegalStateException");
+      }
+      catch (final IllegalStateException e) {
+        assertEquals("Fail", e.getMessage());
+      }
+    }
+
+    assertEquals(0, ran.get());
+    for (int i = 0, i$ = futures.size(); i < i$; ++i) // [RA]
+      assertTrue(futures.get(i).isCancelled());
+
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals("Fail", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class TestCompletableFutureTest {
+  @Test
+  public void testSuccess() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(2));
+    final TestCompletableFuture<Integer> future = TestCompletableFuture.supplyAsync(() -> 1, executor)
+      .thenApplyAsync(i -> i + 1)
+      .thenCombine(TestCompletableFuture.supplyAsync(() -> 2, executor), Integer::sum);
+
+    assertEquals(Integer.valueOf(4), future.get());
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+  }
+
+  @Test
+  public void testThenApplyAsyncFailure() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(2));
+    final TestCompletableFuture<String> future = TestCompletableFuture.supplyAsync(() -> 1, executor)
+      .thenApplyAsync(i -> {
+        throw new IllegalStateException("Fail");
+      })
+      .handle((v, t) -> t == null ? "ok" : "recovered");
+
+    assertEquals("recovered", future.join());
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals("Fail", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testHandleFailure() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(2));
+    final TestCompletableFuture<Object> future = TestCompletableFuture.runAsync(() -> {}, executor)
+      .handleAsync((v, t) -> {
+        fail("Fail");
+        return null;
+      });
+
+    try {
+      future.get();
+      fail("Expected ExecutionException");
+    }
+    catch (final ExecutionException e) {
+      assertEquals("Fail", e.getCause().getMessage());
+    }
+
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertEquals("Fail", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testFailFast() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(2)).withFailFast();
+    TestCompletableFuture.supplyAsync(() -> {
+      try {
+        Thread.sleep(60000);
+      }
+      catch (final InterruptedException e) {
+      }
+
+      return null;
+    }, executor);
+
+    TestCompletableFuture.supplyAsync(() -> {
+      throw new IllegalStateException("Fail");
+    }, executor);
+
+    executor.shutdown();
+    final long start = System.currentTimeMillis();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals("Fail", e.getMessage());
+    }
+
+    assertTrue(System.currentTimeMillis() - start < 30000);
+  }
+}
@@ -18,8 +18,22 @@ package org.libj.test;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.Test;
 
@@ -73,4 +87,365 @@ public class TestExecutorServiceTest {
   public void testNoConcurrentModificationExceptionConcurrentHashMap() throws Throwable {
     testNoConcurrentModificationException(false);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testFailureIsPerInstance() throws Exception {
+    final TestExecutorService failing = new TestExecutorService(Executors.newSingleThreadExecutor());
+    final TestExecutorService passing = new TestExecutorService(Executors.newSingleThreadExecutor());
+    failing.submit(() -> fail("Fail"));
+    passing.execute(() -> {});
+    failing.shutdown();
+    passing.shutdown();
+    try {
+      failing.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertEquals("Fail", e.getMessage());
+    }
+
+    assertTrue(passing.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS));
+    assertNull(passing.getFailure());
+  }
+
+  @Test
+  public void testContention() throws Exception {
+    final int submitters = 64;
+    final int tasks = 1000;
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(8));
+    final ExecutorService pool = Executors.newFixedThreadPool(submitters);
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicInteger completed = new AtomicInteger();
+    for (int s = 0; s < submitters; ++s) { // [N]
+      final int submitter = s;
+      pool.execute(() -> {
+        try {
+          start.await();
+        }
+        catch (final InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+
+        for (int i = 0; i < tasks; ++i) { // [N]
+          final int task = i;
+          executor.submit(() -> {
+            completed.incrementAndGet();
+            if (task % 100 == 0)
+              throw new IllegalStateException(submitter + ":" + task);
+          });
+        }
+      });
+    }
+
+    start.countDown();
+    pool.shutdown();
+    assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals(TestExecutorService.MAX_SUPPRESSED, e.getSuppressed().length);
+    }
+
+    assertTrue(executor.isTerminated());
+    assertEquals(submitters * tasks, completed.get());
+  }
+
+  @Test
+  public void testNewVirtualThreadPerTaskExecutor() throws Exception {
+    final TestExecutorService executor = TestExecutorService.newVirtualThreadPerTaskExecutor();
+    final int tasks = executor.isVirtual() ? 100000 : 1000;
+    final CountDownLatch latch = new CountDownLatch(tasks);
+    for (int i = 0; i < tasks; ++i) { // [N]
+      final int task = i;
+      executor.submit(() -> {
+        latch.countDown();
+        // Hold every task until all are running concurrently
+        latch.await();
+        if (task == tasks / 2)
+          throw new IllegalStateException(String.valueOf(task));
+
+        return null;
+      });
+    }
+
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals(String.valueOf(tasks / 2), e.getMessage());
+    }
+
+    assertTrue(executor.isTerminated());
+  }
+
+  @Test
+  public void testFailFast() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(4)).withFailFast();
+    final ArrayList<Future<?>> futures = new ArrayList<>();
+    final Callable<Object> sleep = () -> {
+      Thread.sleep(60000);
+      return null;
+    };
+
+    // Three running and four queued tasks are outstanding when the fourth worker fails
+    for (int i = 0; i < 3; ++i) // [N]
+      futures.add(executor.submit(sleep));
+
+    executor.submit(() -> {
+      Thread.sleep(100);
+      fail("Fail");
+      return null;
+    });
+
+    for (int i = 0; i < 4; ++i) // [N]
+      futures.add(executor.submit(sleep));
+
+    executor.shutdown();
+    final long start = System.currentTimeMillis();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertEquals("Fail", e.getMessage());
+    }
+
+    assertTrue(System.currentTimeMillis() - start < 30000);
+    for (int i = 0, i$ = futures.size(); i < i$; ++i) // [RA]
+      assertTrue(futures.get(i).isCancelled());
+  }
+
+  @Test
+  public void testFailFastAwaitsWorkers() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(2)).withFailFast();
+    final AtomicBoolean exited = new AtomicBoolean();
+    executor.submit(() -> {
+      try {
+        Thread.sleep(60000);
+      }
+      catch (final InterruptedException e) {
+        // Continues to run for a while after it is interrupted
+        final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+        while (System.nanoTime() - end < 0);
+        exited.set(true);
+      }
+
+      return null;
+    });
+
+    executor.submit(() -> {
+      Thread.sleep(100);
+      throw new IllegalStateException("Fail");
+    });
+
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertEquals("Fail", e.getMessage());
+    }
+
+    assertTrue(exited.get());
+    assertTrue(executor.isTerminated());
+    // The interrupt by which the failure woke this thread does not leak
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  public void testAwaitTerminationInterrupted() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(1)).withFailFast();
+    final CountDownLatch latch = new CountDownLatch(1);
+    executor.submit(() -> {
+      latch.await();
+      return null;
+    });
+
+    executor.shutdown();
+    final Thread thread = Thread.currentThread();
+    final Thread interrupter = new Thread(() -> {
+      sleep(100);
+      thread.interrupt();
+    });
+
+    interrupter.start();
+    try {
+      // An interrupt that is not of the executor is thrown
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected InterruptedException");
+    }
+    catch (final InterruptedException e) {
+    }
+    finally {
+      interrupter.join();
+      latch.countDown();
+    }
+
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+  }
+
+  @Test
+  public void testFailFastInvokeAll() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(4)).withFailFast();
+    final ArrayList<Callable<Object>> tasks = new ArrayList<>();
+    for (int i = 0; i < 3; ++i) // [N]
+      tasks.add(() -> {
+        Thread.sleep(60000);
+        return null;
+      });
+
+    tasks.add(() -> {
+      Thread.sleep(100);
+      throw new IllegalStateException("Fail");
+    });
+
+    final long start = System.currentTimeMillis();
+    final List<Future<Object>> futures = executor.invokeAll(tasks);
+    assertTrue(System.currentTimeMillis() - start < 30000);
+    for (int i = 0; i < 3; ++i) // [N]
+      assertTrue(futures.get(i).isCancelled());
+
+    try {
+      futures.get(3).get();
+      fail("Expected ExecutionException");
+    }
+    catch (final ExecutionException e) {
+      assertEquals("Fail", e.getCause().getMessage());
+      assertSame(e.getCause(), executor.getFailure());
+    }
+
+    try {
+      executor.submit(() -> {});
+      fail("Expected RejectedExecutionException");
+    }
+    catch (final RejectedExecutionException e) {
+    }
+  }
+
+  @Test
+  public void testMetrics() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(4)).withMetrics();
+    for (int i = 0; i < 100; ++i) // [N]
+      executor.execute(TestExecutorService.tag("sleep", () -> sleep(1)));
+
+    final ArrayList<Callable<Object>> tasks = new ArrayList<>();
+    for (int i = 0; i < 10; ++i) // [N]
+      tasks.add(() -> null);
+
+    executor.invokeAll(tasks);
+    executor.submit(TestExecutorService.tag("fail", () -> {
+      throw new IllegalStateException();
+    }));
+
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    final TestExecutorService.Metrics metrics = executor.getMetrics();
+    assertEquals(110, metrics.getCompletedCount());
+    assertEquals(1, metrics.getFailedCount());
+    assertEquals(111, metrics.getRunTime().getCount());
+    assertEquals(111, metrics.getQueueTime().getCount());
+    assertTrue(metrics.getThroughput() > 0);
+
+    final TestExecutorService.Metrics sleep = executor.getMetrics("sleep");
+    assertEquals(100, sleep.getCompletedCount());
+    assertTrue(sleep.getRunTime().getValueAtPercentile(50) >= TimeUnit.MILLISECONDS.toNanos(1));
+    assertEquals(1, executor.getMetrics("fail").getFailedCount());
+    assertNull(executor.getMetrics("none"));
+  }
+
+  @Test
+  public void testWatchdogDeadlock() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(2)).withWatchdog(1, TimeUnit.MINUTES);
+    final ReentrantLock a = new ReentrantLock();
+    final ReentrantLock b = new ReentrantLock();
+    final CyclicBarrier barrier = new CyclicBarrier(2);
+    executor.submit(() -> lockInOrder(barrier, a, b));
+    executor.submit(() -> lockInOrder(barrier, b, a));
+    executor.shutdown();
+    try {
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("Deadlock detected among 2 threads"));
+      assertTrue(e.getMessage(), e.getMessage().contains("lockInOrder"));
+      assertFalse(e.getMessage(), e.getMessage().contains("ThreadPoolExecutor.runWorker"));
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Object lockInOrder(final CyclicBarrier barrier, final ReentrantLock first, final ReentrantLock second) throws Exception {
+    first.lockInterruptibly();
+    try {
+      barrier.await();
+      second.lockInterruptibly();
+      second.unlock();
+      return null;
+    }
+    finally {
+      first.unlock();
+    }
+  }
+
+  @Test
+  public void testWatchdogStall() throws Exception {
+    final TestExecutorService executor = new TestExecutorService(Executors.newFixedThreadPool(2)).withWatchdog(100, TimeUnit.MILLISECONDS);
+    executor.execute(() -> {});
+    executor.submit(() -> {
+      Thread.sleep(60000);
+      return null;
+    });
+
+    executor.shutdown();
+    try {
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("1 task of TestExecutorService did not complete within 100ms"));
+      assertTrue(e.getMessage(), e.getMessage().contains("Thread.sleep"));
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testWatchdogNestedTask() throws Exception {
+    // A task that is rejected by the saturated pool runs nested within the task that submitted it
+    final ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>(), new ThreadPoolExecutor.CallerRunsPolicy());
+    final TestExecutorService executor = new TestExecutorService(pool).withWatchdog(100, TimeUnit.MILLISECONDS);
+    executor.submit(() -> {
+      executor.execute(() -> {});
+      // The outer task is still tracked after the nested task has ended
+      Thread.sleep(60000);
+      return null;
+    });
+
+    executor.shutdown();
+    try {
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("1 task of TestExecutorService did not complete within 100ms"));
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class TestScheduledExecutorServiceTest {
+  @Test
+  public void testTimestampOrder() throws Exception {
+    final TestScheduledExecutorService executor = new TestScheduledExecutorService(Executors.newFixedThreadPool(4));
+    final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+    executor.schedule(() -> order.add(3), 3, TimeUnit.HOURS);
+    executor.schedule(() -> order.add(1), 1, TimeUnit.HOURS);
+    final ScheduledFuture<Integer> future = executor.schedule(() -> order.add(2) ? 2 : 0, 2, TimeUnit.HOURS);
+    executor.schedule(() -> order.add(4), 4, TimeUnit.HOURS).cancel(false);
+
+    final long start = System.currentTimeMillis();
+    executor.advance(90, TimeUnit.MINUTES);
+    assertEquals(Collections.singletonList(1), order);
+    assertFalse(future.isDone());
+    assertEquals(30, future.getDelay(TimeUnit.MINUTES));
+
+    executor.advance(1, TimeUnit.DAYS);
+    assertEquals(Arrays.asList(1, 2, 3), order);
+    assertEquals(Integer.valueOf(2), future.get());
+    assertEquals(TimeUnit.MINUTES.toNanos(90 + 24 * 60), executor.now(TimeUnit.NANOSECONDS));
+    assertEquals(0, executor.getQueueSize());
+    assertTrue(System.currentTimeMillis() - start < 10000);
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+  }
+
+  @Test
+  public void testSaturation() throws Exception {
+    final TestScheduledExecutorService executor = new TestScheduledExecutorService(Executors.newFixedThreadPool(2));
+    final AtomicInteger count = new AtomicInteger();
+    executor.advance(1, TimeUnit.SECONDS);
+    final ScheduledFuture<?> never = executor.schedule(count::incrementAndGet, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    final ScheduledFuture<?> neverDays = executor.schedule(count::incrementAndGet, Long.MAX_VALUE, TimeUnit.DAYS);
+    executor.schedule(count::incrementAndGet, 1, TimeUnit.DAYS);
+    assertTrue(never.getDelay(TimeUnit.DAYS) > 0);
+
+    executor.advance(1, TimeUnit.HOURS);
+    assertEquals(0, count.get());
+
+    // Advances to the end of time, without running the tasks that are never due
+    executor.advance(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    assertEquals(1, count.get());
+    assertEquals(Long.MAX_VALUE, executor.now(TimeUnit.NANOSECONDS));
+    assertEquals(2, executor.getQueueSize());
+
+    executor.shutdown();
+    assertTrue(never.isCancelled());
+    assertTrue(neverDays.isCancelled());
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+  }
+
+  @Test
+  public void testPeriodic() throws Exception {
+    final TestScheduledExecutorService executor = new TestScheduledExecutorService(Executors.newFixedThreadPool(2));
+    final AtomicInteger rate = new AtomicInteger();
+    final AtomicInteger delay = new AtomicInteger();
+    executor.scheduleAtFixedRate(rate::incrementAndGet, 0, 10, TimeUnit.SECONDS);
+    executor.scheduleWithFixedDelay(delay::incrementAndGet, 5, 20, TimeUnit.SECONDS);
+    executor.advance(1, TimeUnit.MINUTES);
+    assertEquals(7, rate.get());
+    assertEquals(3, delay.get());
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+  }
+
+  @Test
+  public void testRetryWithBackoff() throws Exception {
+    final TestScheduledExecutorService executor = new TestScheduledExecutorService(Executors.newSingleThreadExecutor());
+    final ArrayList<Long> attempts = new ArrayList<>();
+    final Runnable[] attempt = new Runnable[1];
+    attempt[0] = () -> {
+      attempts.add(executor.now(TimeUnit.SECONDS));
+      if (attempts.size() < 5)
+        executor.schedule(attempt[0], 1L << attempts.size(), TimeUnit.SECONDS);
+    };
+
+    executor.schedule(attempt[0], 0, TimeUnit.SECONDS);
+    executor.advance(1, TimeUnit.HOURS);
+    assertEquals(Arrays.asList(0L, 2L, 6L, 14L, 30L), attempts);
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+  }
+
+  @Test
+  public void testFailure() throws Exception {
+    final TestScheduledExecutorService executor = new TestScheduledExecutorService(Executors.newFixedThreadPool(2));
+    final AtomicInteger count = new AtomicInteger();
+    final ScheduledFuture<?> future = executor.scheduleAtFixedRate(() -> {
+      if (count.incrementAndGet() == 3)
+        fail("Fail");
+    }, 1, 1, TimeUnit.SECONDS);
+
+    executor.advance(1, TimeUnit.MINUTES);
+    assertEquals(3, count.get());
+    assertTrue(future.isDone());
+
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      fail("Expected AssertionError");
+    }
+    catch (final AssertionError e) {
+      assertEquals("Fail", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testShutdown() throws Exception {
+    final TestScheduledExecutorService executor = new TestScheduledExecutorService(Executors.newSingleThreadExecutor());
+    final AtomicInteger count = new AtomicInteger();
+    executor.schedule(count::incrementAndGet, 1, TimeUnit.SECONDS);
+    final ScheduledFuture<?> periodic = executor.scheduleAtFixedRate(count::incrementAndGet, 1, 1, TimeUnit.SECONDS);
+    executor.shutdown();
+    assertTrue(executor.isShutdown());
+    assertTrue(periodic.isCancelled());
+    assertFalse(executor.isTerminated());
+
+    executor.advance(1, TimeUnit.SECONDS);
+    assertEquals(1, count.get());
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+  }
+}
@@ -0,0 +1,55 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+
+import javax.xml.xpath.XPathExpression;
+
+import org.junit.Test;
+
+public class XPathCacheTest {
+  @Test
+  public void testHitMiss() throws Exception {
+    final String expression = "/foo:" + getClass().getSimpleName();
+    final long hits = XPathCache.getHitCount();
+    final long misses = XPathCache.getMissCount();
+
+    final XPathExpression compiled = XPathCache.compile(expression, new SimpleNamespaceContext(Collections.singletonMap("foo", "bar")));
+    assertEquals(misses + 1, XPathCache.getMissCount());
+    assertEquals(hits, XPathCache.getHitCount());
+
+    assertSame(compiled, XPathCache.compile(expression, new SimpleNamespaceContext(Collections.singletonMap("foo", "bar"))));
+    assertEquals(misses + 1, XPathCache.getMissCount());
+    assertEquals(hits + 1, XPathCache.getHitCount());
+
+    assertNotSame(compiled, XPathCache.compile(expression, new SimpleNamespaceContext(Collections.singletonMap("foo", "baz"))));
+    assertEquals(misses + 2, XPathCache.getMissCount());
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    final SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext(Collections.emptyMap());
+    final XPathExpression first = XPathCache.compile("/eviction", namespaceContext);
+    for (int i = 0; i < XPathCache.CAPACITY; ++i) // [N]
+      XPathCache.compile("/eviction" + i, namespaceContext);
+
+    assertNotSame(first, XPathCache.compile("/eviction", namespaceContext));
+  }
+}
@@ -0,0 +1,145 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.test;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+public class XmlSnapshotStoreTest {
+  private static final String control = "<ns:a xmlns:ns=\"urn:test\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"ns:t\"><ns:b x=\"1\">foo</ns:b><!--c--><?pi data?><ns:c><![CDATA[<d/>]]></ns:c></ns:a>";
+
+  private Path dir;
+  private Path golden;
+
+  @Before
+  public void before() throws IOException {
+    dir = Files.createTempDirectory("snapshots");
+    golden = dir.resolve("golden.xml");
+    Files.write(golden, control.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @After
+  public void after() throws IOException {
+    try (final Stream<Path> paths = Files.walk(dir)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+    }
+  }
+
+  private long countSnapshots() throws IOException {
+    try (final Stream<Path> paths = Files.list(dir)) {
+      return paths.filter(p -> p.toString().endsWith(".bin")).count();
+    }
+  }
+
+  @Test
+  public void testSnapshot() throws IOException {
+    final XmlSnapshotStore store = new XmlSnapshotStore(dir, false);
+    final Element parsed = store.getControl(golden);
+    assertEquals(1, countSnapshots());
+
+    final Element decoded = store.getControl(golden);
+    assertNotSame(parsed, decoded);
+    assertEquals(StructuralHash.hash(parsed, false), StructuralHash.hash(decoded, false));
+    store.assertEqual(golden, AssertXmlTest.parse(control));
+
+    Files.write(golden, control.replace("foo", "bar").getBytes(StandardCharsets.UTF_8));
+    assertNotEquals(StructuralHash.hash(parsed, false), StructuralHash.hash(store.getControl(golden), false));
+    assertEquals(1, countSnapshots());
+  }
+
+  @Test
+  public void testCorruptSnapshot() throws IOException {
+    final XmlSnapshotStore store = new XmlSnapshotStore(dir, false);
+    final Element parsed = store.getControl(golden);
+    final Path snapshot;
+    try (final Stream<Path> paths = Files.list(dir)) {
+      snapshot = paths.filter(p -> p.toString().endsWith(".bin")).findFirst().get();
+    }
+
+    final byte[] bytes = Files.readAllBytes(snapshot);
+    Files.write(snapshot, Arrays.copyOf(bytes, bytes.length / 2));
+    assertEquals(StructuralHash.hash(parsed, false), StructuralHash.hash(store.getControl(golden), false));
+    assertArrayEquals(bytes, Files.readAllBytes(snapshot));
+
+    Files.write(snapshot, new byte[] {1, 2, 3});
+    assertEquals(StructuralHash.hash(parsed, false), StructuralHash.hash(store.getControl(golden), false));
+    assertEquals(1, countSnapshots());
+  }
+
+  @Test
+  public void testFileSystem() throws IOException, URISyntaxException {
+    final Path zip = dir.resolve("snapshots.zip");
+    try (final FileSystem fs = FileSystems.newFileSystem(new URI("jar:" + zip.toUri()), Collections.singletonMap("create", "true"))) {
+      final Path zipDir = Files.createDirectory(fs.getPath("/snapshots"));
+      final Path zipGolden = Files.copy(golden, zipDir.resolve("golden.xml"));
+      final XmlSnapshotStore store = new XmlSnapshotStore(zipDir, false);
+      final Element parsed = store.getControl(zipGolden);
+      final Element decoded = store.getControl(zipGolden);
+      assertNotSame(parsed, decoded);
+      assertEquals(StructuralHash.hash(parsed, false), StructuralHash.hash(decoded, false));
+      store.assertEqual(zipGolden, AssertXmlTest.parse(control));
+    }
+  }
+
+  @Test
+  public void testUpdate() throws IOException {
+    final Element test = AssertXmlTest.parse(control.replace("ns:c", "ns:d"));
+    try {
+      new XmlSnapshotStore(dir, false).assertEqual(golden, test);
+      fail("Expected ComparisonFailure");
+    }
+    catch (final ComparisonFailure e) {
+    }
+
+    new XmlSnapshotStore(dir, true).assertEqual(golden, test);
+    new XmlSnapshotStore(dir, false).assertEqual(golden, test);
+
+    final Path created = dir.resolve("created.xml");
+    new XmlSnapshotStore(dir, true).assertEqual(created, test);
+    new XmlSnapshotStore(dir, false).assertEqual(created, test);
+
+    // The prefixes of the control and test elements differ
+    final Element prefixed = AssertXmlTest.parse(control.replaceAll("\\bns:", "p:").replace("xmlns:ns=", "xmlns:p="));
+    try {
+      new XmlSnapshotStore(dir, false).assertEqual(golden, prefixed);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    new XmlSnapshotStore(dir, true).assertEqual(golden, prefixed);
+    new XmlSnapshotStore(dir, false).assertEqual(golden, prefixed);
+  }
+}